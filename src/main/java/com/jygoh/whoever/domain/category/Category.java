@@ -8,9 +8,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category {
 
@@ -31,14 +33,6 @@ public class Category {
         this.postCount = postCount;
     }
 
-    public void incrementPostCount() {
-        this.postCount++;
-    }
-
-    public void decrementPostCount() {
-        this.postCount--;
-    }
-
     public void updateName(String newName) {
         this.name = newName;
     }
@@ -3,6 +3,10 @@ package com.jygoh.whoever.domain.category;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
@@ -10,4 +14,11 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByMemberIdAndName(Long memberId, String name);
     Optional<Category> findByIdAndMemberId(Long id, Long memberId);
 
+    // 엔티티를 읽지 않고 DB 에서 바로 증감한다. 0 아래로는 내려가지 않는다
+    @Transactional
+    @Modifying
+    @Query("UPDATE Category c SET c.postCount = c.postCount + :delta "
+        + "WHERE c.id = :categoryId AND c.postCount + :delta >= 0")
+    int addPostCount(@Param("categoryId") Long categoryId, @Param("delta") int delta);
+
 }
@@ -10,4 +10,6 @@ public interface CategoryService {
 
     Long createOrUpdateDefaultCategory(Long memberId);
 
+    void changePostCount(Long categoryId, int delta);
+
 }
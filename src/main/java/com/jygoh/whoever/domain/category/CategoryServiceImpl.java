@@ -43,6 +43,13 @@ public class CategoryServiceImpl implements CategoryService {
         return defaultCategory.getId();
     }
 
+    @Override
+    public void changePostCount(Long categoryId, int delta) {
+        if (categoryId != null) {
+            categoryRepository.addPostCount(categoryId, delta);
+        }
+    }
+
     @Override
     public Long createCategory(String token, String categoryName) {
         Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
@@ -1,8 +1,6 @@
 package com.jygoh.whoever.domain.comment.dto;
 
 import com.jygoh.whoever.domain.comment.model.Comment;
-import com.jygoh.whoever.domain.member.entity.Member;
-import com.jygoh.whoever.domain.member.repository.MemberRepository;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -14,14 +12,9 @@ public class CommentDto {
     private String content;
     private String authorNickname;
 
-    public CommentDto(Comment comment, MemberRepository memberRepository) {
+    public CommentDto(Comment comment, String authorNickname) {
         this.id = comment.getId();
         this.content = comment.getContent();
-        this.authorNickname = findAuthorNickname(comment.getAuthorId(), memberRepository);
-    }
-
-    private String findAuthorNickname(Long authorId, MemberRepository memberRepository) {
-        return memberRepository.findById(authorId).map(Member::getNickname)
-            .orElse("Unknown"); // Default value if the author is not found
+        this.authorNickname = authorNickname;
     }
 }
@@ -3,10 +3,15 @@ package com.jygoh.whoever.domain.comment.repository;
 import com.jygoh.whoever.domain.comment.model.Comment;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByPostId(Long postId);
 
     List<Comment> findByAuthorId(Long authorId);
+
+    @Query("SELECT DISTINCT c.postId FROM Comment c WHERE c.authorId = :authorId")
+    List<Long> findPostIdsByAuthorId(@Param("authorId") Long authorId);
 }
@@ -6,8 +6,10 @@ import com.jygoh.whoever.domain.comment.model.Comment;
 import com.jygoh.whoever.domain.comment.repository.CommentRepository;
 import com.jygoh.whoever.domain.member.entity.Member;
 import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.post.cache.PostDetailCache;
 import com.jygoh.whoever.domain.post.model.Post;
 import com.jygoh.whoever.domain.post.repository.PostRepository;
+import com.jygoh.whoever.domain.post.trending.TrendingStore;
 import com.jygoh.whoever.global.security.jwt.JwtTokenProvider;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -21,13 +23,18 @@ public class CommentServiceImpl implements CommentService {
     private final PostRepository postRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRepository memberRepository;
+    private final PostDetailCache postDetailCache;
+    private final TrendingStore trendingStore;
 
     public CommentServiceImpl(CommentRepository commentRepository, PostRepository postRepository,
-        JwtTokenProvider jwtTokenProvider, MemberRepository memberRepository) {
+        JwtTokenProvider jwtTokenProvider, MemberRepository memberRepository,
+        PostDetailCache postDetailCache, TrendingStore trendingStore) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.jwtTokenProvider = jwtTokenProvider;
         this.memberRepository = memberRepository;
+        this.postDetailCache = postDetailCache;
+        this.trendingStore = trendingStore;
     }
 
     @Override
@@ -43,7 +50,9 @@ public class CommentServiceImpl implements CommentService {
         }
         Comment comment = requestDto.toEntity(post, author);
         commentRepository.save(comment);
-        post.incrementCommentCount();
+        postRepository.addCommentCount(post.getId(), 1);
+        trendingStore.record(post.getId(), TrendingStore.COMMENT_WEIGHT);
+        postDetailCache.evict(post.getId());
         return comment.getId();
     }
 
@@ -57,6 +66,7 @@ public class CommentServiceImpl implements CommentService {
         }
         comment.updateComment(requestDto.getContent());
         commentRepository.save(comment);
+        postDetailCache.evict(comment.getPostId());
         return comment.getId();
     }
 
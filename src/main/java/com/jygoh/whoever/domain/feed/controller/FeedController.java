@@ -0,0 +1,29 @@
+package com.jygoh.whoever.domain.feed.controller;
+
+import com.jygoh.whoever.domain.post.dto.PostListResponseDto;
+import com.jygoh.whoever.domain.post.service.PostService;
+import com.jygoh.whoever.global.pagination.CursorPage;
+import com.jygoh.whoever.global.security.jwt.TokenUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/feed")
+public class FeedController {
+
+    private final PostService postService;
+
+    public FeedController(PostService postService) {
+        this.postService = postService;
+    }
+
+    @GetMapping
+    public CursorPage<PostListResponseDto> getFeed(@RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size, HttpServletRequest request) {
+        String token = TokenUtils.extractTokenFromRequest(request);
+        return postService.getFeed(cursor, size, token);
+    }
+}
@@ -0,0 +1,13 @@
+package com.jygoh.whoever.domain.feed.service;
+
+import java.util.List;
+
+public interface FeedService {
+
+    /**
+     * 팔로우한 회원들의 글 id 를 최신순으로 반환한다.
+     *
+     * @param beforePostId 이 id 보다 작은 글만 (첫 페이지면 null)
+     */
+    List<Long> getFeedPostIds(Long memberId, Long beforePostId, int limit);
+}
@@ -0,0 +1,168 @@
+package com.jygoh.whoever.domain.feed.service;
+
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import com.jygoh.whoever.domain.follow.repository.FollowRepository;
+import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent.Type;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 혼합 팬아웃 홈 피드. 팔로워가 기준(feed.fanout.celebrity-threshold) 미만인 작성자의 새 글은 작성 시
+ * 팔로워 타임라인에 밀어 넣고(push), 기준 이상인 작성자의 글은 읽을 때 작성자별로 페이지 크기만큼 가져와
+ * (pull) 타임라인과 병합한다. 읽기 비용은 팔로우 수가 아니라 페이지 크기와 팔로우한 인기 작성자 수에 비례한다.
+ * <p>
+ * 회원별로 팔로우한 인기 작성자 집합을 {@link TimelineStore} 에 두고 커밋된 팔로우/언팔로우와 기준을 넘나들
+ * 때 고친다. 기준 아래로 내려간 작성자의 최근 글은 팔로워 타임라인에 채워 넣는다. 오래 읽지 않아 만료된
+ * 타임라인은 다음 조회 때 팔로우한 작성자의 최근 글로 다시 채운다.
+ * <p>
+ * 삭제된 글은 타임라인에서 지우지 않고 목록 조회 시 걸러진다.
+ */
+@Slf4j
+@Service
+public class FeedServiceImpl implements FeedService {
+
+    // 팔로우하거나 기준 아래로 내려갈 때 채워 넣는 작성자의 최근 글 수
+    private static final int BACKFILL_SIZE = 50;
+
+    private final TimelineStore timelineStore;
+    private final FollowRepository followRepository;
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final int celebrityThreshold;
+    private final int timelineMaxSize;
+
+    public FeedServiceImpl(TimelineStore timelineStore, FollowRepository followRepository,
+        MemberRepository memberRepository, PostRepository postRepository,
+        @Value("${feed.fanout.celebrity-threshold:1000}") int celebrityThreshold,
+        @Value("${feed.timeline.max-size:800}") int timelineMaxSize) {
+        this.timelineStore = timelineStore;
+        this.followRepository = followRepository;
+        this.memberRepository = memberRepository;
+        this.postRepository = postRepository;
+        this.celebrityThreshold = celebrityThreshold;
+        this.timelineMaxSize = timelineMaxSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getFeedPostIds(Long memberId, Long beforePostId, int limit) {
+        // 인기 작성자 집합을 먼저 읽는다. 만료되었으면 타임라인을 다시 채운 뒤 읽어야 한다
+        Set<Long> celebrityIds = followedCelebrities(memberId);
+        List<List<Long>> sources = new ArrayList<>();
+        sources.add(timelineStore.page(memberId, beforePostId, limit));
+        long before = beforePostId != null ? beforePostId : Long.MAX_VALUE;
+        for (Long authorId : celebrityIds) {
+            sources.add(postRepository.findIdsByAuthorIdBefore(authorId, before,
+                PageRequest.ofSize(limit)));
+        }
+        return TimelineMerger.mergeNewestFirst(sources, limit);
+    }
+
+    /**
+     * 커밋된 팔로우 변경만 타임라인에 반영한다. 기준을 넘나들었는지는 이벤트에 담긴, 변경 직후의 팔로워 수로
+     * 판단한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        // 타임라인은 노드가 공유하므로 변경을 만든 노드에서 한 번만 고친다
+        if (event.isRemote()) {
+            return;
+        }
+        try {
+            if (event.isFollowed()) {
+                onFollow(event.getFollowerId(), event.getFolloweeId(),
+                    event.getFolloweeFollowerCount());
+            } else {
+                onUnfollow(event.getFollowerId(), event.getFolloweeId(),
+                    event.getFolloweeFollowerCount());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update timelines for follow {} -> {}", event.getFollowerId(),
+                event.getFolloweeId(), e);
+        }
+    }
+
+    private void onFollow(Long followerId, Long followeeId, int followerCount) {
+        if (followerCount == celebrityThreshold) {
+            // 이번 팔로우로 기준에 닿았다. 기존 팔로워도 이제부터 읽을 때 가져온다
+            timelineStore.addFollowedCelebrity(followRepository.findFollowerIds(followeeId),
+                followeeId);
+        } else if (followerCount > celebrityThreshold) {
+            timelineStore.addFollowedCelebrity(List.of(followerId), followeeId);
+        } else {
+            timelineStore.pushAll(followerId, recentPostIds(followeeId));
+        }
+    }
+
+    private void onUnfollow(Long followerId, Long followeeId, int followerCount) {
+        timelineStore.removeFollowedCelebrity(List.of(followerId), followeeId);
+        // 타임라인에 든 글(최대 timelineMaxSize 개) 중 작성자의 글만 골라 뺀다
+        List<Long> timeline = timelineStore.page(followerId, null, timelineMaxSize);
+        if (!timeline.isEmpty()) {
+            timelineStore.removeAll(followerId,
+                postRepository.findIdsByAuthorIdAndIdIn(followeeId, timeline));
+        }
+        if (followerCount == celebrityThreshold - 1) {
+            // 이번 언팔로우로 기준 아래로 내려갔다. 남은 팔로워는 다시 push 로 받으므로 최근 글을 채워 둔다
+            List<Long> followerIds = followRepository.findFollowerIds(followeeId);
+            timelineStore.removeFollowedCelebrity(followerIds, followeeId);
+            List<Long> recentPostIds = recentPostIds(followeeId);
+            followerIds.forEach(id -> timelineStore.pushAll(id, recentPostIds));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        // 팬아웃은 글을 쓴 노드에서 한 번만 한다
+        if (event.isRemote() || event.getType() != Type.CREATED
+            || isCelebrity(event.getAuthorId())) {
+            return;
+        }
+        try {
+            timelineStore.push(followRepository.findFollowerIds(event.getAuthorId()),
+                event.getPostId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to fan out post {} to followers", event.getPostId(), e);
+        }
+    }
+
+    // 기준을 넘나든 작성자의 글은 push 와 pull 양쪽에 있을 수 있으며 병합 시 중복을 뺀다
+    private boolean isCelebrity(Long memberId) {
+        return followerCount(memberId) >= celebrityThreshold;
+    }
+
+    private int followerCount(Long memberId) {
+        return memberRepository.findFollowerCountById(memberId).orElse(0);
+    }
+
+    private Set<Long> followedCelebrities(Long memberId) {
+        Set<Long> celebrityIds = timelineStore.followedCelebrities(memberId);
+        if (celebrityIds == null) {
+            // 처음 읽거나 오래 읽지 않아 만료된 경우다. 타임라인도 함께 사라졌을 수 있으므로 팔로우한 작성자의
+            // 최근 글로 다시 채우고, 인기 작성자는 팔로우 목록에서 한 번 찾아 적재한다
+            timelineStore.pushAll(memberId, postRepository.findIdsByFolloweesOf(memberId,
+                PageRequest.ofSize(timelineMaxSize)));
+            celebrityIds = new HashSet<>(followRepository.findFolloweeIdsWithFollowersAtLeast(
+                memberId, celebrityThreshold));
+            timelineStore.loadFollowedCelebrities(memberId, celebrityIds);
+        }
+        return celebrityIds;
+    }
+
+    private List<Long> recentPostIds(Long authorId) {
+        return postRepository.findIdsByAuthorIdBefore(authorId, Long.MAX_VALUE,
+            PageRequest.ofSize(BACKFILL_SIZE));
+    }
+}
@@ -0,0 +1,126 @@
+package com.jygoh.whoever.domain.feed.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 를 사용하지 않을 때의 프로세스 내부 타임라인. 회원별로 정렬된 글 id 집합을 둔다. 한동안 접근하지 않은
+ * 회원의 타임라인과 인기 작성자 집합은 메모리에서 빠진다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "false")
+public class LocalTimelineStore implements TimelineStore {
+
+    private final Cache<Long, ConcurrentSkipListSet<Long>> timelines;
+    private final Cache<Long, Set<Long>> celebrities;
+    // 인기 작성자 집합을 적재한 회원. 읽을 때만 접근하므로 타임라인보다 먼저 빠진다
+    private final Cache<Long, Boolean> celebritiesLoaded;
+    private final int maxSize;
+
+    public LocalTimelineStore(@Value("${feed.timeline.max-size:800}") int maxSize,
+        @Value("${feed.timeline.ttl-seconds:1209600}") long ttlSeconds) {
+        this.timelines = Caffeine.newBuilder().expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+            .build();
+        this.celebrities = Caffeine.newBuilder().expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+            .build();
+        this.celebritiesLoaded = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofSeconds(ttlSeconds)).build();
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void push(Collection<Long> memberIds, Long postId) {
+        for (Long memberId : memberIds) {
+            add(timeline(memberId), postId);
+        }
+    }
+
+    @Override
+    public void pushAll(Long memberId, Collection<Long> postIds) {
+        ConcurrentSkipListSet<Long> timeline = timeline(memberId);
+        postIds.forEach(postId -> add(timeline, postId));
+    }
+
+    @Override
+    public void removeAll(Long memberId, Collection<Long> postIds) {
+        ConcurrentSkipListSet<Long> timeline = timelines.getIfPresent(memberId);
+        if (timeline != null) {
+            timeline.removeAll(postIds);
+        }
+    }
+
+    @Override
+    public List<Long> page(Long memberId, Long beforePostId, int limit) {
+        List<Long> postIds = new ArrayList<>();
+        ConcurrentSkipListSet<Long> timeline = timelines.getIfPresent(memberId);
+        if (timeline == null) {
+            return postIds;
+        }
+        NavigableSet<Long> older = beforePostId != null
+            ? timeline.headSet(beforePostId, false) : timeline;
+        for (Long postId : older.descendingSet()) {
+            if (postIds.size() >= limit) {
+                break;
+            }
+            postIds.add(postId);
+        }
+        return postIds;
+    }
+
+    @Override
+    public Set<Long> followedCelebrities(Long memberId) {
+        if (celebritiesLoaded.getIfPresent(memberId) == null) {
+            return null;
+        }
+        Set<Long> followed = celebrities.getIfPresent(memberId);
+        return followed != null ? new HashSet<>(followed) : new HashSet<>();
+    }
+
+    @Override
+    public void loadFollowedCelebrities(Long memberId, Collection<Long> celebrityIds) {
+        celebrities(memberId).addAll(celebrityIds);
+        celebritiesLoaded.put(memberId, Boolean.TRUE);
+    }
+
+    @Override
+    public void addFollowedCelebrity(Collection<Long> memberIds, Long celebrityId) {
+        memberIds.forEach(memberId -> celebrities(memberId).add(celebrityId));
+    }
+
+    @Override
+    public void removeFollowedCelebrity(Collection<Long> memberIds, Long celebrityId) {
+        for (Long memberId : memberIds) {
+            Set<Long> followed = celebrities.getIfPresent(memberId);
+            if (followed != null) {
+                followed.remove(celebrityId);
+            }
+        }
+    }
+
+    private Set<Long> celebrities(Long memberId) {
+        return celebrities.get(memberId, id -> ConcurrentHashMap.newKeySet());
+    }
+
+    private ConcurrentSkipListSet<Long> timeline(Long memberId) {
+        return timelines.get(memberId, id -> new ConcurrentSkipListSet<>());
+    }
+
+    private void add(ConcurrentSkipListSet<Long> timeline, Long postId) {
+        timeline.add(postId);
+        while (timeline.size() > maxSize) {
+            timeline.pollFirst();
+        }
+    }
+}
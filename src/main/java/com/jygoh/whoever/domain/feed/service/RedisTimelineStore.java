@@ -0,0 +1,163 @@
+package com.jygoh.whoever.domain.feed.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 ZSET(timeline:{회원 id}) 에 글 id 를 점수와 값으로 둔다. 커서 이전 구간은 ZREVRANGEBYSCORE 의
+ * LIMIT 으로 읽으므로 타임라인 길이와 관계없이 페이지 크기만큼만 읽는다.
+ * <p>
+ * 팔로우한 인기 작성자는 SET(followedCelebrities:{회원 id}) 에 둔다. 적재 여부는 표시 원소(loaded)로 구분한다.
+ * 두 키 모두 읽을 때 만료 시간을 늘리고, 타임라인은 글을 넣을 때도 늘린다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisTimelineStore implements TimelineStore {
+
+    private static final String KEY_PREFIX = "timeline:";
+    private static final String CELEBRITIES_KEY_PREFIX = "followedCelebrities:";
+    private static final String LOADED = "loaded";
+
+    // 적재되지 않은 집합에 넣을 때만 만료 시간을 건다. 적재된 집합의 만료를 늘리면 타임라인보다 오래 남는다
+    private static final DefaultRedisScript<Long> ADD_CELEBRITY_SCRIPT = new DefaultRedisScript<>(
+        "for _, key in ipairs(KEYS) do "
+            + "redis.call('SADD', key, ARGV[1]) "
+            + "if redis.call('TTL', key) == -1 then redis.call('EXPIRE', key, ARGV[2]) end "
+            + "end "
+            + "return #KEYS", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long maxSize;
+    private final long ttlSeconds;
+
+    public RedisTimelineStore(RedisTemplate<String, String> redisTemplate,
+        @Value("${feed.timeline.max-size:800}") long maxSize,
+        @Value("${feed.timeline.ttl-seconds:1209600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    public void push(Collection<Long> memberIds, Long postId) {
+        byte[] value = bytes(postId.toString());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : memberIds) {
+                byte[] key = bytes(KEY_PREFIX + memberId);
+                connection.zSetCommands().zAdd(key, postId, value);
+                // 오래된 글부터 잘라 최근 maxSize 개만 남긴다
+                connection.zSetCommands().zRemRange(key, 0, -(maxSize + 1));
+                connection.keyCommands().expire(key, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void pushAll(Long memberId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        byte[] key = bytes(KEY_PREFIX + memberId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                connection.zSetCommands().zAdd(key, postId, bytes(postId.toString()));
+            }
+            connection.zSetCommands().zRemRange(key, 0, -(maxSize + 1));
+            connection.keyCommands().expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    @Override
+    public void removeAll(Long memberId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(KEY_PREFIX + memberId,
+            postIds.stream().map(String::valueOf).toArray());
+    }
+
+    @Override
+    public List<Long> page(Long memberId, Long beforePostId, int limit) {
+        String key = KEY_PREFIX + memberId;
+        double max = beforePostId != null ? beforePostId - 1 : Double.POSITIVE_INFINITY;
+        List<Object> results = redisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                connection.zSetCommands().zRevRangeByScore(bytes(key), Double.NEGATIVE_INFINITY,
+                    max, 0, limit);
+                connection.keyCommands().expire(bytes(key), ttlSeconds);
+                return null;
+            });
+        List<Long> postIds = new ArrayList<>();
+        Collection<?> values = (Collection<?>) results.get(0);
+        if (values != null) {
+            values.forEach(value -> postIds.add(Long.valueOf(value.toString())));
+        }
+        return postIds;
+    }
+
+    @Override
+    public Set<Long> followedCelebrities(Long memberId) {
+        String key = CELEBRITIES_KEY_PREFIX + memberId;
+        List<Object> results = redisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                connection.setCommands().sMembers(bytes(key));
+                connection.keyCommands().expire(bytes(key), ttlSeconds);
+                return null;
+            });
+        Collection<?> members = (Collection<?>) results.get(0);
+        if (members == null || !members.contains(LOADED)) {
+            return null;
+        }
+        return members.stream().map(Object::toString).filter(member -> !LOADED.equals(member))
+            .map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void loadFollowedCelebrities(Long memberId, Collection<Long> celebrityIds) {
+        String key = CELEBRITIES_KEY_PREFIX + memberId;
+        List<String> members = new ArrayList<>();
+        celebrityIds.forEach(celebrityId -> members.add(celebrityId.toString()));
+        members.add(LOADED);
+        redisTemplate.opsForSet().add(key, members.toArray(new String[0]));
+        redisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Override
+    public void addFollowedCelebrity(Collection<Long> memberIds, Long celebrityId) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = memberIds.stream().map(memberId -> CELEBRITIES_KEY_PREFIX + memberId)
+            .collect(Collectors.toList());
+        redisTemplate.execute(ADD_CELEBRITY_SCRIPT, keys, celebrityId.toString(),
+            String.valueOf(ttlSeconds));
+    }
+
+    @Override
+    public void removeFollowedCelebrity(Collection<Long> memberIds, Long celebrityId) {
+        byte[] value = bytes(celebrityId.toString());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : memberIds) {
+                connection.setCommands().sRem(bytes(CELEBRITIES_KEY_PREFIX + memberId), value);
+            }
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,39 @@
+package com.jygoh.whoever.domain.feed.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public final class TimelineMerger {
+
+    private TimelineMerger() {
+    }
+
+    /**
+     * 각각 내림차순인 id 목록들을 k-way 병합하여 중복 없이 최대 limit 개를 내림차순으로 반환한다.
+     */
+    public static List<Long> mergeNewestFirst(List<List<Long>> sources, int limit) {
+        // {목록 번호, 목록 내 위치}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Comparator.comparing(
+            (int[] head) -> sources.get(head[0]).get(head[1])).reversed());
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        List<Long> merged = new ArrayList<>();
+        while (!heads.isEmpty() && merged.size() < limit) {
+            int[] head = heads.poll();
+            List<Long> source = sources.get(head[0]);
+            Long postId = source.get(head[1]);
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).equals(postId)) {
+                merged.add(postId);
+            }
+            if (head[1] + 1 < source.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+}
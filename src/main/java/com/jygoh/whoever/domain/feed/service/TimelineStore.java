@@ -0,0 +1,48 @@
+package com.jygoh.whoever.domain.feed.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 회원별 홈 타임라인에 밀어 넣은 글 id. 글 id 는 작성 순서대로 증가하므로 id 를 점수로 쓰고 최신순으로
+ * 읽는다. 회원마다 최근 글 일정 개수만 보관한다.
+ * <p>
+ * 타임라인과 인기 작성자 집합은 읽을 때마다 만료 시간(feed.timeline.ttl-seconds)이 늘어나며, 오래 읽지 않은
+ * 회원의 것은 사라진다. 인기 작성자 집합은 타임라인보다 먼저 만료되므로 집합이 적재되어 있으면 타임라인도
+ * 남아 있다.
+ */
+public interface TimelineStore {
+
+    /**
+     * 여러 회원의 타임라인에 글 하나를 넣는다 (작성 시 팬아웃)
+     */
+    void push(Collection<Long> memberIds, Long postId);
+
+    /**
+     * 한 회원의 타임라인에 여러 글을 넣는다 (팔로우 시 채우기)
+     */
+    void pushAll(Long memberId, Collection<Long> postIds);
+
+    void removeAll(Long memberId, Collection<Long> postIds);
+
+    /**
+     * @param beforePostId 이 id 보다 작은 글만 (첫 페이지면 null)
+     * @return 최신순 글 id
+     */
+    List<Long> page(Long memberId, Long beforePostId, int limit);
+
+    /**
+     * 회원이 팔로우하는 인기 작성자 id. 아직 적재하지 않았으면 null 이다.
+     */
+    Set<Long> followedCelebrities(Long memberId);
+
+    /**
+     * 인기 작성자 집합을 적재한다. 그 사이 {@link #addFollowedCelebrity} 로 들어온 id 는 유지한다.
+     */
+    void loadFollowedCelebrities(Long memberId, Collection<Long> celebrityIds);
+
+    void addFollowedCelebrity(Collection<Long> memberIds, Long celebrityId);
+
+    void removeFollowedCelebrity(Collection<Long> memberIds, Long celebrityId);
+}
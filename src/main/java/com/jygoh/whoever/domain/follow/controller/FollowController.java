@@ -1,11 +1,20 @@
 package com.jygoh.whoever.domain.follow.controller;
 
+import com.jygoh.whoever.domain.follow.dto.FollowMemberResponseDto;
+import com.jygoh.whoever.domain.follow.dto.FollowStatusResponseDto;
+import com.jygoh.whoever.domain.follow.dto.FollowSuggestionResponseDto;
 import com.jygoh.whoever.domain.follow.service.FollowService;
+import com.jygoh.whoever.global.pagination.CursorPage;
+import com.jygoh.whoever.global.security.jwt.TokenUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,4 +33,32 @@ public class FollowController {
         followService.toggleFollow(token, followeeId);
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<FollowSuggestionResponseDto>> getSuggestions(
+        @RequestParam(defaultValue = "10") int size, HttpServletRequest request) {
+        String token = TokenUtils.extractTokenFromRequest(request);
+        return ResponseEntity.ok(followService.getSuggestions(token, size));
+    }
+
+    @GetMapping("/{memberId}/followers")
+    public ResponseEntity<CursorPage<FollowMemberResponseDto>> getFollowers(
+        @PathVariable Long memberId, @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(followService.getFollowers(memberId, cursor, size));
+    }
+
+    @GetMapping("/{memberId}/following")
+    public ResponseEntity<CursorPage<FollowMemberResponseDto>> getFollowing(
+        @PathVariable Long memberId, @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(followService.getFollowing(memberId, cursor, size));
+    }
+
+    @GetMapping("/{memberId}/status")
+    public ResponseEntity<FollowStatusResponseDto> getFollowStatus(@PathVariable Long memberId,
+        HttpServletRequest request) {
+        String token = TokenUtils.extractTokenFromRequest(request);
+        return ResponseEntity.ok(followService.getFollowStatus(token, memberId));
+    }
 }
@@ -0,0 +1,23 @@
+package com.jygoh.whoever.domain.follow.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class FollowMemberResponseDto {
+
+    private Long id;
+    private String nickname;
+    private String profileImageUrl;
+    private LocalDateTime followedAt;
+
+    public FollowMemberResponseDto(Long id, String nickname, String profileImageUrl,
+        LocalDateTime followedAt) {
+        this.id = id;
+        this.nickname = nickname;
+        this.profileImageUrl = profileImageUrl;
+        this.followedAt = followedAt;
+    }
+}
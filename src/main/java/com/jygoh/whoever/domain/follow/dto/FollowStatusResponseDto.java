@@ -0,0 +1,26 @@
+package com.jygoh.whoever.domain.follow.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class FollowStatusResponseDto {
+
+    private Long memberId;
+    private boolean following; // 내가 이 회원을 팔로우하는지
+    private boolean followsYou; // 이 회원이 나를 팔로우하는지
+    private int followerCount;
+    private int followingCount;
+    private int mutualCount; // 이 회원과 서로 팔로우하는 회원 수
+
+    public FollowStatusResponseDto(Long memberId, boolean following, boolean followsYou,
+        int followerCount, int followingCount, int mutualCount) {
+        this.memberId = memberId;
+        this.following = following;
+        this.followsYou = followsYou;
+        this.followerCount = followerCount;
+        this.followingCount = followingCount;
+        this.mutualCount = mutualCount;
+    }
+}
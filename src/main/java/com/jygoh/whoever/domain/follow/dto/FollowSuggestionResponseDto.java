@@ -0,0 +1,19 @@
+package com.jygoh.whoever.domain.follow.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class FollowSuggestionResponseDto {
+
+    private Long id;
+    private String nickname;
+    private int sharedCount; // 내가 팔로우한 회원 중 이 회원을 팔로우하는 수
+
+    public FollowSuggestionResponseDto(Long id, String nickname, int sharedCount) {
+        this.id = id;
+        this.nickname = nickname;
+        this.sharedCount = sharedCount;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jygoh.whoever.domain.follow.event;
+
+import com.jygoh.whoever.global.event.ClusterEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팔로우/언팔로우 후 발행된다. 팔로우 그래프 색인처럼 DB 밖의 파생 데이터는 커밋 후 이 이벤트로 갱신한다.
+ * 다른 노드에도 전달된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true) // 다른 노드에서 받은 이벤트 역직렬화용
+public class FollowChangedEvent implements ClusterEvent {
+
+    private final Long followerId;
+    private final Long followeeId;
+    private final boolean followed; // 언팔로우면 false
+    private final int followeeFollowerCount; // 이 변경을 반영한 팔로위의 팔로워 수
+    private final boolean remote;
+
+    public FollowChangedEvent(Long followerId, Long followeeId, boolean followed,
+        int followeeFollowerCount) {
+        this.followerId = followerId;
+        this.followeeId = followeeId;
+        this.followed = followed;
+        this.followeeFollowerCount = followeeFollowerCount;
+        this.remote = false;
+    }
+}
@@ -0,0 +1,231 @@
+package com.jygoh.whoever.domain.follow.index;
+
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팔로우 그래프의 메모리 색인. 회원마다 팔로우하는 회원과 팔로워를 정렬된 long[] 로 두므로 간선당 16바이트
+ * (정방향 + 역방향)에 회원별 배열 헤더만 더해진다. 포함 여부는 이진 탐색, 맞팔로우는 정렬된 배열의 교집합으로
+ * 구한다.
+ * <p>
+ * 배열은 갱신 시 새로 만들어 바꿔 끼우며(copy-on-write) 제자리에서 고치지 않으므로 반환된 배열은 그대로 읽어도
+ * 된다 (수정 금지). 시작 시 follow 테이블에서 만들고 {@link FollowChangedEvent} 로 증분 갱신한다. 다른 노드의
+ * 변경도 이 이벤트로 전달받으며, 전달 중 놓친 변경은 주기적인 재구축(follow.graph.rebuild-cron)으로 맞춘다.
+ * 전달에 시차가 있으므로 본인이 방금 바꾼 팔로우 여부는 {@link RecentFollowStore} 로 덮어 쓴다.
+ */
+@Slf4j
+@Component
+public class FollowGraphIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Object rebuildLock = new Object();
+    private volatile Graph graph = new Graph();
+    private volatile boolean ready;
+    private List<FollowChangedEvent> changesDuringRebuild; // 재구축 중이 아니면 null
+
+    public FollowGraphIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 시작 시 적재가 끝났는지. 끝나기 전에는 호출하는 쪽에서 DB 로 조회한다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isFollowing(long followerId, long followeeId) {
+        return Arrays.binarySearch(following(followerId), followeeId) >= 0;
+    }
+
+    /**
+     * 회원이 팔로우하는 회원 id (오름차순)
+     */
+    public long[] following(long memberId) {
+        return graph.following.getOrDefault(memberId, EMPTY);
+    }
+
+    /**
+     * 회원을 팔로우하는 회원 id (오름차순)
+     */
+    public long[] followers(long memberId) {
+        return graph.followers.getOrDefault(memberId, EMPTY);
+    }
+
+    public int followingCount(long memberId) {
+        return following(memberId).length;
+    }
+
+    public int followerCount(long memberId) {
+        return followers(memberId).length;
+    }
+
+    /**
+     * 서로 팔로우하는 회원 id (오름차순)
+     */
+    public long[] mutuals(long memberId) {
+        return intersect(following(memberId), followers(memberId));
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합
+     */
+    public static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 이 색인을 읽는 다른 리스너(추천 등)보다 먼저 반영한다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        }
+        graph.apply(event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        Thread thread = new Thread(this::rebuild, "follow-graph-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(cron = "${follow.graph.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                return; // 이미 재구축 중
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+        Graph rebuilt;
+        try {
+            Map<Long, LongList> following = new HashMap<>();
+            Map<Long, LongList> followers = new HashMap<>();
+            jdbcTemplate.query("SELECT follower_id, followee_id FROM follow", rs -> {
+                long followerId = rs.getLong(1);
+                long followeeId = rs.getLong(2);
+                following.computeIfAbsent(followerId, id -> new LongList()).add(followeeId);
+                followers.computeIfAbsent(followeeId, id -> new LongList()).add(followerId);
+            });
+            rebuilt = new Graph();
+            following.forEach((id, list) -> rebuilt.following.put(id, list.toSortedArray()));
+            followers.forEach((id, list) -> rebuilt.followers.put(id, list.toSortedArray()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild follow graph index", e);
+            synchronized (rebuildLock) {
+                changesDuringRebuild = null;
+            }
+            return;
+        }
+        synchronized (rebuildLock) {
+            changesDuringRebuild.forEach(rebuilt::apply);
+            changesDuringRebuild = null;
+            graph = rebuilt;
+            ready = true;
+        }
+        log.info("Rebuilt follow graph index: {} members following, {} followed",
+            rebuilt.following.size(), rebuilt.followers.size());
+    }
+
+    private static final class Graph {
+
+        private final ConcurrentHashMap<Long, long[]> following = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, long[]> followers = new ConcurrentHashMap<>();
+
+        private void apply(FollowChangedEvent event) {
+            long followerId = event.getFollowerId();
+            long followeeId = event.getFolloweeId();
+            if (event.isFollowed()) {
+                following.compute(followerId, (id, ids) -> insert(ids, followeeId));
+                followers.compute(followeeId, (id, ids) -> insert(ids, followerId));
+            } else {
+                following.computeIfPresent(followerId, (id, ids) -> delete(ids, followeeId));
+                followers.computeIfPresent(followeeId, (id, ids) -> delete(ids, followerId));
+            }
+        }
+
+        private static long[] insert(long[] ids, long value) {
+            if (ids == null) {
+                return new long[]{value};
+            }
+            int index = Arrays.binarySearch(ids, value);
+            if (index >= 0) {
+                return ids;
+            }
+            int position = -index - 1;
+            long[] inserted = new long[ids.length + 1];
+            System.arraycopy(ids, 0, inserted, 0, position);
+            inserted[position] = value;
+            System.arraycopy(ids, position, inserted, position + 1, ids.length - position);
+            return inserted;
+        }
+
+        // 비게 되면 null 을 반환하여 항목을 지운다
+        private static long[] delete(long[] ids, long value) {
+            int index = Arrays.binarySearch(ids, value);
+            if (index < 0) {
+                return ids;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            long[] deleted = new long[ids.length - 1];
+            System.arraycopy(ids, 0, deleted, 0, index);
+            System.arraycopy(ids, index + 1, deleted, index, ids.length - index - 1);
+            return deleted;
+        }
+    }
+
+    private static final class LongList {
+
+        private long[] values = new long[4];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.jygoh.whoever.domain.follow.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Redis 를 사용하지 않을 때의 프로세스 내부 기록. "팔로워 id:팔로위 id" -> 팔로우 여부.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "false")
+public class LocalRecentFollowStore implements RecentFollowStore {
+
+    private final Cache<String, Boolean> followedByPair;
+
+    public LocalRecentFollowStore(@Value("${follow.recent.ttl-seconds:60}") long ttlSeconds) {
+        this.followedByPair = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds)).build();
+    }
+
+    @Override
+    public Boolean find(long followerId, long followeeId) {
+        return followedByPair.getIfPresent(followerId + ":" + followeeId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        if (!event.isRemote()) {
+            followedByPair.put(event.getFollowerId() + ":" + event.getFolloweeId(),
+                event.isFollowed());
+        }
+    }
+}
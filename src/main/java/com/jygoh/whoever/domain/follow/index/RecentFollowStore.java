@@ -0,0 +1,14 @@
+package com.jygoh.whoever.domain.follow.index;
+
+/**
+ * 회원이 방금 바꾼 팔로우 상태. {@link FollowGraphIndex} 는 다른 노드의 변경을 이벤트로 전달받으므로 잠시
+ * 늦을 수 있다. 본인의 팔로우/언팔로우 직후 다른 노드로 간 조회도 바뀐 상태를 보도록 색인 위에 덮어 쓴다.
+ * 커밋 후 기록하며, 색인에 전달될 만큼의 짧은 시간(follow.recent.ttl-seconds)만 보관한다.
+ */
+public interface RecentFollowStore {
+
+    /**
+     * @return 최근에 바꾼 상태 (팔로우면 true), 기록이 없으면 null
+     */
+    Boolean find(long followerId, long followeeId);
+}
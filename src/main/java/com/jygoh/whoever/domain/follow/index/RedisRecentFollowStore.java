@@ -0,0 +1,56 @@
+package com.jygoh.whoever.domain.follow.index;
+
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팔로우한 회원별 HASH(recentFollow:{회원 id}) 에 팔로위 id -> "1"/"0" 을 둔다. 키는 마지막 변경 후
+ * 만료된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisRecentFollowStore implements RecentFollowStore {
+
+    private static final String KEY_PREFIX = "recentFollow:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public RedisRecentFollowStore(RedisTemplate<String, String> redisTemplate,
+        @Value("${follow.recent.ttl-seconds:60}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public Boolean find(long followerId, long followeeId) {
+        Object value = redisTemplate.opsForHash().get(KEY_PREFIX + followerId,
+            String.valueOf(followeeId));
+        return value != null ? "1".equals(value) : null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        // 변경을 만든 노드에서 한 번만 기록한다
+        if (event.isRemote()) {
+            return;
+        }
+        String key = KEY_PREFIX + event.getFollowerId();
+        try {
+            redisTemplate.opsForHash().put(key, event.getFolloweeId().toString(),
+                event.isFollowed() ? "1" : "0");
+            redisTemplate.expire(key, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record recent follow change of member {}",
+                event.getFollowerId(), e);
+        }
+    }
+}
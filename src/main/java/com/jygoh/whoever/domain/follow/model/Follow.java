@@ -3,6 +3,8 @@ package com.jygoh.whoever.domain.follow.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,6 +12,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_follow_follower_created_at",
+        columnList = "follower_id, created_at, followee_id"),
+    @Index(name = "idx_follow_followee_created_at",
+        columnList = "followee_id, created_at, follower_id")})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follow {
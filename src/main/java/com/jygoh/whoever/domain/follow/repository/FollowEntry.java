@@ -0,0 +1,13 @@
+package com.jygoh.whoever.domain.follow.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로워/팔로잉 목록용 프로젝션. memberId 는 목록에 보일 상대 회원이다.
+ */
+public interface FollowEntry {
+
+    Long getMemberId();
+
+    LocalDateTime getCreatedAt();
+}
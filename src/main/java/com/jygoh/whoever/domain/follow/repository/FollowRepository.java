@@ -2,15 +2,21 @@ package com.jygoh.whoever.domain.follow.repository;
 
 import com.jygoh.whoever.domain.follow.model.Follow;
 import com.jygoh.whoever.domain.follow.model.FollowId;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FollowRepository extends JpaRepository<Follow, FollowId> {
 
     // Check if a follow relationship exists between a follower and followee
     Optional<Follow> findById_FollowerIdAndId_FolloweeId(Long followerId, Long followeeId);
 
+    boolean existsById_FollowerIdAndId_FolloweeId(Long followerId, Long followeeId);
+
     Optional<Follow> findById(FollowId id);
 
     void deleteById(FollowId id);
@@ -21,5 +27,48 @@ public interface FollowRepository extends JpaRepository<Follow, FollowId> {
     // Find all follow relationships where the member is the followee
     List<Follow> findById_FolloweeId(Long followeeId);
 
+    // Keyset pagination over the members the given member follows, newest first
+    @Query("SELECT f.id.followeeId AS memberId, f.createdAt AS createdAt FROM Follow f "
+        + "WHERE f.id.followerId = :memberId ORDER BY f.createdAt DESC, f.id.followeeId DESC")
+    List<FollowEntry> findLatestFollowing(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT f.id.followeeId AS memberId, f.createdAt AS createdAt FROM Follow f "
+        + "WHERE f.id.followerId = :memberId AND (f.createdAt < :createdAt "
+        + "OR (f.createdAt = :createdAt AND f.id.followeeId < :id)) "
+        + "ORDER BY f.createdAt DESC, f.id.followeeId DESC")
+    List<FollowEntry> findLatestFollowingBefore(@Param("memberId") Long memberId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // Keyset pagination over the followers of the given member, newest first
+    @Query("SELECT f.id.followerId AS memberId, f.createdAt AS createdAt FROM Follow f "
+        + "WHERE f.id.followeeId = :memberId ORDER BY f.createdAt DESC, f.id.followerId DESC")
+    List<FollowEntry> findLatestFollowers(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT f.id.followerId AS memberId, f.createdAt AS createdAt FROM Follow f "
+        + "WHERE f.id.followeeId = :memberId AND (f.createdAt < :createdAt "
+        + "OR (f.createdAt = :createdAt AND f.id.followerId < :id)) "
+        + "ORDER BY f.createdAt DESC, f.id.followerId DESC")
+    List<FollowEntry> findLatestFollowersBefore(@Param("memberId") Long memberId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    long countById_FollowerId(Long followerId);
+
+    long countById_FolloweeId(Long followeeId);
+
+    // Count members who follow the given member back (used until the follow graph index is loaded)
+    @Query("SELECT COUNT(f) FROM Follow f WHERE f.id.followerId = :memberId AND EXISTS "
+        + "(SELECT g FROM Follow g WHERE g.id.followerId = f.id.followeeId "
+        + "AND g.id.followeeId = :memberId)")
+    long countMutuals(@Param("memberId") Long memberId);
+
+    // Find the IDs of all members following the given member
+    @Query("SELECT f.id.followerId FROM Follow f WHERE f.id.followeeId = :followeeId")
+    List<Long> findFollowerIds(@Param("followeeId") Long followeeId);
+
+    // Find followees of the member who have at least minFollowers followers
+    @Query("SELECT f.id.followeeId FROM Follow f, Member m WHERE f.id.followerId = :followerId "
+        + "AND m.id = f.id.followeeId AND m.followerCount >= :minFollowers")
+    List<Long> findFolloweeIdsWithFollowersAtLeast(@Param("followerId") Long followerId,
+        @Param("minFollowers") int minFollowers);
 
 }
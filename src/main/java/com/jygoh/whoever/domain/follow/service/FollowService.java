@@ -1,7 +1,21 @@
 package com.jygoh.whoever.domain.follow.service;
 
+import com.jygoh.whoever.domain.follow.dto.FollowMemberResponseDto;
+import com.jygoh.whoever.domain.follow.dto.FollowStatusResponseDto;
+import com.jygoh.whoever.domain.follow.dto.FollowSuggestionResponseDto;
+import com.jygoh.whoever.global.pagination.CursorPage;
+import java.util.List;
+
 public interface FollowService {
 
     void toggleFollow(String token, Long followeeId);
 
+    FollowStatusResponseDto getFollowStatus(String token, Long memberId);
+
+    List<FollowSuggestionResponseDto> getSuggestions(String token, int size);
+
+    CursorPage<FollowMemberResponseDto> getFollowers(Long memberId, String cursor, int size);
+
+    CursorPage<FollowMemberResponseDto> getFollowing(Long memberId, String cursor, int size);
+
 }
@@ -1,12 +1,31 @@
 package com.jygoh.whoever.domain.follow.service;
 
+import com.jygoh.whoever.domain.follow.dto.FollowMemberResponseDto;
+import com.jygoh.whoever.domain.follow.dto.FollowStatusResponseDto;
+import com.jygoh.whoever.domain.follow.dto.FollowSuggestionResponseDto;
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import com.jygoh.whoever.domain.follow.index.FollowGraphIndex;
+import com.jygoh.whoever.domain.follow.index.RecentFollowStore;
 import com.jygoh.whoever.domain.follow.model.Follow;
+import com.jygoh.whoever.domain.follow.repository.FollowEntry;
 import com.jygoh.whoever.domain.follow.repository.FollowRepository;
-import com.jygoh.whoever.domain.member.entity.Member;
+import com.jygoh.whoever.domain.follow.suggestion.FollowSuggestion;
+import com.jygoh.whoever.domain.follow.suggestion.FollowSuggestionEngine;
+import com.jygoh.whoever.domain.member.repository.MemberCard;
 import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.member.service.AuthorNicknameResolver;
+import com.jygoh.whoever.global.pagination.CursorPage;
+import com.jygoh.whoever.global.pagination.TimeCursor;
 import com.jygoh.whoever.global.security.jwt.JwtTokenProvider;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +36,24 @@ public class FollowServiceImpl implements FollowService {
     private final MemberRepository memberRepository;
     private final FollowRepository followRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final FollowGraphIndex followGraphIndex;
+    private final RecentFollowStore recentFollowStore;
+    private final FollowSuggestionEngine followSuggestionEngine;
+    private final AuthorNicknameResolver authorNicknameResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FollowServiceImpl(MemberRepository memberRepository, FollowRepository followRepository,
-        JwtTokenProvider jwtTokenProvider) {
+        JwtTokenProvider jwtTokenProvider, FollowGraphIndex followGraphIndex,
+        RecentFollowStore recentFollowStore, FollowSuggestionEngine followSuggestionEngine,
+        AuthorNicknameResolver authorNicknameResolver, ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.followRepository = followRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.followGraphIndex = followGraphIndex;
+        this.recentFollowStore = recentFollowStore;
+        this.followSuggestionEngine = followSuggestionEngine;
+        this.authorNicknameResolver = authorNicknameResolver;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -39,14 +70,121 @@ public class FollowServiceImpl implements FollowService {
             // If follow relationship exists, delete it and decrease follower count
             followRepository.delete(existingFollow.get());
             // Assuming `followeeId` refers to the followee's member ID
-            memberRepository.findById(followeeId).ifPresent(Member::decreaseFollowerCount);
+            memberRepository.addFollowerCount(followeeId, -1);
+            // The home timeline is updated from this event after commit
+            eventPublisher.publishEvent(new FollowChangedEvent(followerId, followeeId, false,
+                followerCount(followeeId)));
         } else {
             // If follow relationship does not exist, create it and increase follower count
             Follow follow = Follow.builder().followerId(followerId).followeeId(followeeId)
                 .createdAt(LocalDateTime.now()).build();
             followRepository.save(follow);
-            memberRepository.findById(followeeId).ifPresent(Member::increaseFollowerCount);
+            memberRepository.addFollowerCount(followeeId, 1);
+            // The home timeline is backfilled from this event after commit
+            eventPublisher.publishEvent(new FollowChangedEvent(followerId, followeeId, true,
+                followerCount(followeeId)));
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FollowStatusResponseDto getFollowStatus(String token, Long memberId) {
+        Long myId = jwtTokenProvider.getMemberIdFromToken(token);
+        if (!followGraphIndex.isReady()) {
+            return new FollowStatusResponseDto(memberId,
+                followRepository.existsById_FollowerIdAndId_FolloweeId(myId, memberId),
+                followRepository.existsById_FollowerIdAndId_FolloweeId(memberId, myId),
+                (int) followRepository.countById_FolloweeId(memberId),
+                (int) followRepository.countById_FollowerId(memberId),
+                (int) followRepository.countMutuals(memberId));
+        }
+        // Answer from the in-memory follow graph. The index receives changes made through other
+        // nodes a little later, so the caller's own recent follow/unfollow is laid over it
+        boolean indexed = followGraphIndex.isFollowing(myId, memberId);
+        Boolean recent = recentFollowStore.find(myId, memberId);
+        boolean following = recent != null ? recent : indexed;
+        boolean followsYou = followGraphIndex.isFollowing(memberId, myId);
+        int followerCount = followGraphIndex.followerCount(memberId);
+        int mutualCount = followGraphIndex.mutuals(memberId).length;
+        if (following != indexed) {
+            int delta = following ? 1 : -1;
+            followerCount += delta;
+            // The caller is a mutual of this member only while both follows exist
+            if (followsYou) {
+                mutualCount += delta;
+            }
+        }
+        return new FollowStatusResponseDto(memberId, following, followsYou, followerCount,
+            followGraphIndex.followingCount(memberId), mutualCount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FollowSuggestionResponseDto> getSuggestions(String token, int size) {
+        Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
+        List<FollowSuggestion> suggestions = followSuggestionEngine.getSuggestions(memberId,
+            Math.max(size, 1));
+        // Resolve nicknames for the whole page in one query
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(
+            suggestions.stream().map(FollowSuggestion::getMemberId).collect(Collectors.toList()));
+        return suggestions.stream().map(
+                suggestion -> new FollowSuggestionResponseDto(suggestion.getMemberId(),
+                    nicknames.get(suggestion.getMemberId()), suggestion.getSharedCount()))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<FollowMemberResponseDto> getFollowers(Long memberId, String cursor,
+        int size) {
+        int limit = CursorPage.clampSize(size);
+        TimeCursor before = TimeCursor.decode(cursor);
+        // Fetch one extra row to know whether there is a next page
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+        List<FollowEntry> entries = before == null
+            ? followRepository.findLatestFollowers(memberId, pageable)
+            : followRepository.findLatestFollowersBefore(memberId, before.getTime(),
+                before.getId(), pageable);
+        return toMemberPage(entries, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<FollowMemberResponseDto> getFollowing(Long memberId, String cursor,
+        int size) {
+        int limit = CursorPage.clampSize(size);
+        TimeCursor before = TimeCursor.decode(cursor);
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+        List<FollowEntry> entries = before == null
+            ? followRepository.findLatestFollowing(memberId, pageable)
+            : followRepository.findLatestFollowingBefore(memberId, before.getTime(),
+                before.getId(), pageable);
+        return toMemberPage(entries, limit);
+    }
+
+    // Read right after the atomic update, so each threshold crossing is seen by exactly one change
+    private int followerCount(Long memberId) {
+        return memberRepository.findFollowerCountById(memberId).orElse(0);
+    }
+
+    private CursorPage<FollowMemberResponseDto> toMemberPage(List<FollowEntry> entries,
+        int limit) {
+        String nextCursor = null;
+        if (entries.size() > limit) {
+            entries = entries.subList(0, limit);
+            FollowEntry last = entries.get(limit - 1);
+            nextCursor = new TimeCursor(last.getCreatedAt(), last.getMemberId()).encode();
+        }
+        // Resolve member cards for the whole page in one projection query
+        Map<Long, MemberCard> cards = memberRepository.findCardsByIdIn(
+                entries.stream().map(FollowEntry::getMemberId).collect(Collectors.toList()))
+            .stream().collect(Collectors.toMap(MemberCard::getId, Function.identity()));
+        List<FollowMemberResponseDto> members = entries.stream()
+            .filter(entry -> cards.containsKey(entry.getMemberId())).map(entry -> {
+                MemberCard card = cards.get(entry.getMemberId());
+                return new FollowMemberResponseDto(card.getId(), card.getNickname(),
+                    card.getProfileImageUrl(), entry.getCreatedAt());
+            }).collect(Collectors.toList());
+        return new CursorPage<>(members, nextCursor);
+    }
 }
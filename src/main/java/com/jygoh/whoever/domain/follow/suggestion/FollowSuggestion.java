@@ -0,0 +1,15 @@
+package com.jygoh.whoever.domain.follow.suggestion;
+
+import lombok.Getter;
+
+@Getter
+public class FollowSuggestion {
+
+    private final long memberId;
+    private final int sharedCount; // 이 회원을 팔로우하는, 내가 팔로우한 회원 수
+
+    public FollowSuggestion(long memberId, int sharedCount) {
+        this.memberId = memberId;
+        this.sharedCount = sharedCount;
+    }
+}
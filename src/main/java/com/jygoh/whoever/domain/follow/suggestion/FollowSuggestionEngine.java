@@ -0,0 +1,166 @@
+package com.jygoh.whoever.domain.follow.suggestion;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import com.jygoh.whoever.domain.follow.index.FollowGraphIndex;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * "알 수도 있는 사람" 추천. 내가 팔로우한 회원들이 팔로우하는 회원(2단계)을 후보로 모아 겹치는 연결 수로
+ * 순위를 매기고, 나와 이미 팔로우한 회원은 뺀다. 그래프는 {@link FollowGraphIndex} 를 읽으므로 DB 를 조회하지
+ * 않는다.
+ * <p>
+ * 배치(follow.suggestions.batch-cron)가 fork-join 으로 최근(follow.suggestions.active-days) 추천을 조회한
+ * 회원의 추천을 미리 계산해 캐시에 넣는다. 대상은 캐시 크기로 제한되므로 계산한 결과가 곧바로 밀려나지 않는다.
+ * 팔로우가 바뀌면 영향받는 회원(팔로우한 본인과 그 팔로워)의 캐시만 지워 다음 조회 때 다시 계산하며, 배치가
+ * 도는 동안 지워진 회원의 결과는 캐시에 넣지 않는다.
+ */
+@Slf4j
+@Component
+public class FollowSuggestionEngine {
+
+    // fork-join 작업 하나가 직접 계산할 회원 수
+    private static final int BATCH_THRESHOLD = 256;
+
+    private final FollowGraphIndex followGraphIndex;
+    private final Cache<Long, List<FollowSuggestion>> suggestionsByMember;
+    // 최근 추천을 조회한 회원 (배치 대상)
+    private final Cache<Long, Boolean> activeMembers;
+    private final int maxSuggestions;
+    private volatile Set<Long> invalidatedDuringRefresh; // 배치 중이 아니면 null
+
+    public FollowSuggestionEngine(FollowGraphIndex followGraphIndex,
+        @Value("${follow.suggestions.cache-size:20000}") long cacheSize,
+        @Value("${follow.suggestions.max-size:20}") int maxSuggestions,
+        @Value("${follow.suggestions.active-days:7}") long activeDays) {
+        this.followGraphIndex = followGraphIndex;
+        this.suggestionsByMember = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.activeMembers = Caffeine.newBuilder().maximumSize(cacheSize)
+            .expireAfterWrite(Duration.ofDays(activeDays)).build();
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    public List<FollowSuggestion> getSuggestions(long memberId, int limit) {
+        if (!followGraphIndex.isReady()) {
+            return new ArrayList<>();
+        }
+        activeMembers.put(memberId, Boolean.TRUE);
+        List<FollowSuggestion> suggestions = suggestionsByMember.get(memberId, this::compute);
+        return suggestions.subList(0, Math.min(limit, suggestions.size()));
+    }
+
+    @Scheduled(cron = "${follow.suggestions.batch-cron:0 30 5 * * *}")
+    public void refreshAll() {
+        if (!followGraphIndex.isReady()) {
+            return;
+        }
+        long[] memberIds = activeMembers.asMap().keySet().stream().mapToLong(Long::longValue)
+            .toArray();
+        long startedAt = System.currentTimeMillis();
+        Set<Long> invalidated = ConcurrentHashMap.newKeySet();
+        invalidatedDuringRefresh = invalidated;
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            pool.invoke(new RefreshTask(memberIds, 0, memberIds.length, invalidated));
+        } finally {
+            pool.shutdown();
+            invalidatedDuringRefresh = null;
+        }
+        log.info("Refreshed follow suggestions for {} members in {} ms", memberIds.length,
+            System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        // 본인은 1단계가, 본인의 팔로워는 2단계가 바뀐다
+        invalidate(event.getFollowerId());
+        for (long followerId : followGraphIndex.followers(event.getFollowerId())) {
+            invalidate(followerId);
+        }
+    }
+
+    // 배치가 보고 건너뛸 수 있도록 캐시를 지우기 전에 기록한다
+    private void invalidate(long memberId) {
+        Set<Long> invalidated = invalidatedDuringRefresh;
+        if (invalidated != null) {
+            invalidated.add(memberId);
+        }
+        suggestionsByMember.invalidate(memberId);
+    }
+
+    // 계산 중에 팔로우가 바뀐 회원이면 넣은 결과를 다시 지운다 (넣은 뒤에 확인해야 기록과 엇갈리지 않는다)
+    private void putUnlessInvalidated(long memberId, List<FollowSuggestion> suggestions,
+        Set<Long> invalidated) {
+        if (invalidated.contains(memberId)) {
+            return;
+        }
+        suggestionsByMember.put(memberId, suggestions);
+        if (invalidated.contains(memberId)) {
+            suggestionsByMember.invalidate(memberId);
+        }
+    }
+
+    List<FollowSuggestion> compute(long memberId) {
+        long[] following = followGraphIndex.following(memberId);
+        Map<Long, Integer> sharedCounts = new HashMap<>();
+        for (long followeeId : following) {
+            for (long candidateId : followGraphIndex.following(followeeId)) {
+                if (candidateId != memberId && Arrays.binarySearch(following, candidateId) < 0) {
+                    sharedCounts.merge(candidateId, 1, Integer::sum);
+                }
+            }
+        }
+        return sharedCounts.entrySet().stream()
+            .map(entry -> new FollowSuggestion(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingInt(FollowSuggestion::getSharedCount).reversed()
+                .thenComparingLong(FollowSuggestion::getMemberId))
+            .limit(maxSuggestions)
+            .toList();
+    }
+
+    private final class RefreshTask extends RecursiveAction {
+
+        private final long[] memberIds;
+        private final int from;
+        private final int to;
+        private final Set<Long> invalidated;
+
+        private RefreshTask(long[] memberIds, int from, int to, Set<Long> invalidated) {
+            this.memberIds = memberIds;
+            this.from = from;
+            this.to = to;
+            this.invalidated = invalidated;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    putUnlessInvalidated(memberIds[i],
+                        FollowSuggestionEngine.this.compute(memberIds[i]), invalidated);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RefreshTask(memberIds, from, middle, invalidated),
+                new RefreshTask(memberIds, middle, to, invalidated));
+        }
+    }
+}
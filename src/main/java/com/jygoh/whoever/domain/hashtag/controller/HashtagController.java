@@ -0,0 +1,49 @@
+package com.jygoh.whoever.domain.hashtag.controller;
+
+import com.jygoh.whoever.domain.hashtag.dto.HashtagSuggestionDto;
+import com.jygoh.whoever.domain.hashtag.service.HashtagService;
+import com.jygoh.whoever.domain.post.service.PostService;
+import com.jygoh.whoever.global.security.jwt.TokenUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/hashtags")
+public class HashtagController {
+
+    private final PostService postService;
+    private final HashtagService hashtagService;
+
+    public HashtagController(PostService postService, HashtagService hashtagService) {
+        this.postService = postService;
+        this.hashtagService = hashtagService;
+    }
+
+    @GetMapping("/suggest")
+    public List<HashtagSuggestionDto> suggestHashtags(@RequestParam String prefix,
+        @RequestParam(defaultValue = "10") int size) {
+        return hashtagService.suggestHashtags(prefix, size);
+    }
+
+    /**
+     * 해시태그 질의(예: {@code spring AND redis NOT kotlin})에 맞는 글 목록을 최신순으로 반환한다.
+     * 질의 문법이 잘못되었거나 커서가 올바르지 않으면 400 을 반환한다.
+     */
+    @GetMapping("/{query}/posts")
+    public ResponseEntity<?> getPostsByHashtags(@PathVariable String query,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size, HttpServletRequest request) {
+        String token = TokenUtils.extractTokenFromRequest(request);
+        try {
+            return ResponseEntity.ok(postService.getPostsByHashtags(query, cursor, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
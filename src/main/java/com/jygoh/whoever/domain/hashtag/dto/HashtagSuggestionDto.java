@@ -0,0 +1,17 @@
+package com.jygoh.whoever.domain.hashtag.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class HashtagSuggestionDto {
+
+    private String name;
+    private int postCount;
+
+    public HashtagSuggestionDto(String name, int postCount) {
+        this.name = name;
+        this.postCount = postCount;
+    }
+}
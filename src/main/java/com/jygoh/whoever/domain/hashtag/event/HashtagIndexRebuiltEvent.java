@@ -0,0 +1,8 @@
+package com.jygoh.whoever.domain.hashtag.event;
+
+/**
+ * {@link com.jygoh.whoever.domain.hashtag.index.HashtagIndex} 재구축(시작 시 포함)이 끝나면 발행된다.
+ * 이 노드 안에서만 쓰며 다른 노드로 전달하지 않는다.
+ */
+public class HashtagIndexRebuiltEvent {
+}
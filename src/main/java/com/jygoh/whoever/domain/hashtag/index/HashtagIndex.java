@@ -0,0 +1,239 @@
+package com.jygoh.whoever.domain.hashtag.index;
+
+import com.jygoh.whoever.domain.hashtag.event.HashtagIndexRebuiltEvent;
+import com.jygoh.whoever.domain.hashtag.repository.HashtagRepository;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 해시태그별 글 id 비트맵(Roaring) 색인. 여러 태그의 AND/OR/NOT 질의를 DB 없이 메모리에서 처리한다.
+ * 글 id 는 작성 순서대로 증가하므로 id 내림차순이 최신순이다.
+ * <p>
+ * 시작 시 post_hashtags 에서 색인을 만들고 {@link PostChangedEvent} 로 증분 갱신한다. 다른 노드의 변경도
+ * 이벤트로 전달받으며, 전달 중 유실된 변경은 주기적인 재구축(hashtag.index.rebuild-cron)으로 맞춘다. 재구축
+ * 중 들어온 변경은 새 색인에 다시 적용한다. 재구축이 끝나면 {@link HashtagIndexRebuiltEvent} 를 발행한다.
+ */
+@Slf4j
+@Component
+public class HashtagIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HashtagRepository hashtagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Object rebuildLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot();
+    private List<PostChangedEvent> changesDuringRebuild; // 재구축 중이 아니면 null
+
+    public HashtagIndex(JdbcTemplate jdbcTemplate, HashtagRepository hashtagRepository,
+        ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.hashtagRepository = hashtagRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 질의에 맞는 글 id 를 최신순으로 반환한다.
+     *
+     * @param beforePostId 이 id 보다 작은 글만 (첫 페이지면 null)
+     */
+    public List<Long> findPostIds(String expression, Long beforePostId, int limit) {
+        HashtagQuery query = HashtagQuery.parse(expression);
+        Snapshot current = snapshot;
+        current.lock.readLock().lock();
+        try {
+            RoaringBitmap result = query.evaluate(current::postsOf, current.allPosts);
+            return newestFirst(result, beforePostId, limit);
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해시태그가 달린 글 수
+     */
+    public int postCount(Long hashtagId) {
+        Snapshot current = snapshot;
+        current.lock.readLock().lock();
+        try {
+            RoaringBitmap posts = current.postsByHashtag.get(hashtagId);
+            return posts != null ? posts.getCardinality() : 0;
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 해시태그의 글 수를 한 번의 읽기 잠금으로 구한다
+     */
+    public Map<Long, Integer> postCounts(Collection<Long> hashtagIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        Snapshot current = snapshot;
+        current.lock.readLock().lock();
+        try {
+            for (Long hashtagId : hashtagIds) {
+                RoaringBitmap posts = current.postsByHashtag.get(hashtagId);
+                counts.put(hashtagId, posts != null ? posts.getCardinality() : 0);
+            }
+        } finally {
+            current.lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        }
+        apply(snapshot, event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        Thread thread = new Thread(this::rebuild, "hashtag-index-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(cron = "${hashtag.index.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                return; // 이미 재구축 중
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+        Snapshot rebuilt = new Snapshot();
+        try {
+            jdbcTemplate.query("SELECT id, name FROM hashtag", rs -> {
+                rebuilt.putHashtag(rs.getLong(1), rs.getString(2));
+            });
+            jdbcTemplate.query("SELECT id FROM post", rs -> {
+                rebuilt.allPosts.add(toInt(rs.getLong(1)));
+            });
+            jdbcTemplate.query("SELECT post_id, hashtag_id FROM post_hashtags", rs -> {
+                rebuilt.postsByHashtag.computeIfAbsent(rs.getLong(2), id -> new RoaringBitmap())
+                    .add(toInt(rs.getLong(1)));
+            });
+            rebuilt.allPosts.runOptimize();
+            rebuilt.postsByHashtag.values().forEach(RoaringBitmap::runOptimize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild hashtag index", e);
+            synchronized (rebuildLock) {
+                changesDuringRebuild = null;
+            }
+            return;
+        }
+        synchronized (rebuildLock) {
+            changesDuringRebuild.forEach(event -> apply(rebuilt, event));
+            changesDuringRebuild = null;
+            snapshot = rebuilt;
+        }
+        log.info("Rebuilt hashtag index: {} hashtags, {} posts", rebuilt.postsByHashtag.size(),
+            rebuilt.allPosts.getCardinality());
+        eventPublisher.publishEvent(new HashtagIndexRebuiltEvent());
+    }
+
+    private void apply(Snapshot target, PostChangedEvent event) {
+        // 처음 보는 해시태그의 이름은 잠금 밖에서 조회한다
+        Map<Long, String> newNames = new HashMap<>();
+        List<Long> added = event.getAddedHashtagIds();
+        List<Long> unknown = added.stream()
+            .filter(id -> !target.hasHashtag(id)).toList();
+        if (!unknown.isEmpty()) {
+            hashtagRepository.findAllById(unknown)
+                .forEach(hashtag -> newNames.put(hashtag.getId(), hashtag.getName()));
+        }
+        int postId = toInt(event.getPostId());
+        target.lock.writeLock().lock();
+        try {
+            newNames.forEach(target::putHashtag);
+            // 바뀐 태그의 비트만 고친다
+            for (Long hashtagId : event.getRemovedHashtagIds()) {
+                RoaringBitmap posts = target.postsByHashtag.get(hashtagId);
+                if (posts != null) {
+                    posts.remove(postId);
+                }
+            }
+            if (event.isDeleted()) {
+                target.allPosts.remove(postId);
+                return;
+            }
+            target.allPosts.add(postId);
+            for (Long hashtagId : added) {
+                target.postsByHashtag.computeIfAbsent(hashtagId, id -> new RoaringBitmap())
+                    .add(postId);
+            }
+        } finally {
+            target.lock.writeLock().unlock();
+        }
+    }
+
+    private static List<Long> newestFirst(RoaringBitmap result, Long beforePostId, int limit) {
+        List<Long> postIds = new ArrayList<>();
+        long count;
+        if (beforePostId == null) {
+            count = result.getLongCardinality();
+        } else if (beforePostId <= 1) {
+            return postIds;
+        } else {
+            // beforePostId 보다 작은 값의 개수
+            count = result.rankLong(toInt(Math.min(beforePostId, Integer.MAX_VALUE)) - 1);
+        }
+        for (long rank = count - 1; rank >= 0 && postIds.size() < limit; rank--) {
+            postIds.add((long) result.select((int) rank));
+        }
+        return postIds;
+    }
+
+    // 비트맵은 int 를 담으므로 글 id 는 Integer.MAX_VALUE 이하여야 한다
+    private static int toInt(long postId) {
+        return Math.toIntExact(postId);
+    }
+
+    private static final class Snapshot {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, RoaringBitmap> postsByHashtag = new HashMap<>();
+        private final Map<String, Long> hashtagIdByName = new HashMap<>();
+        private final Map<Long, String> hashtagNameById = new HashMap<>();
+        private final RoaringBitmap allPosts = new RoaringBitmap();
+
+        private RoaringBitmap postsOf(String name) {
+            Long hashtagId = hashtagIdByName.get(name);
+            RoaringBitmap posts = hashtagId != null ? postsByHashtag.get(hashtagId) : null;
+            return posts != null ? posts : new RoaringBitmap();
+        }
+
+        private void putHashtag(Long hashtagId, String name) {
+            hashtagIdByName.put(name, hashtagId);
+            hashtagNameById.put(hashtagId, name);
+        }
+
+        private boolean hasHashtag(Long hashtagId) {
+            lock.readLock().lock();
+            try {
+                return hashtagNameById.containsKey(hashtagId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
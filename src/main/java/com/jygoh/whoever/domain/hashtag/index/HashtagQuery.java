@@ -0,0 +1,184 @@
+package com.jygoh.whoever.domain.hashtag.index;
+
+import com.jygoh.whoever.domain.hashtag.model.Hashtag;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * 해시태그 불리언 질의. {@code spring AND redis NOT kotlin}, {@code (java OR kotlin) AND spring}
+ * 처럼 AND, OR, NOT 과 괄호를 쓸 수 있으며 우선순위는 NOT > AND > OR 이다. 연산자 없이 이어진 태그는 AND 로
+ * 본다.
+ * <p>
+ * NOT 은 전체 집합을 만들지 않도록 "여집합 표시" 로 들고 다니다가 AND 에서는 andNot 으로 계산하고, 최종
+ * 결과가 여집합일 때만 전체 글 비트맵에서 뺀다.
+ */
+final class HashtagQuery {
+
+    private final List<String> tokens;
+    private final Set<String> names = new LinkedHashSet<>();
+    private final Node root;
+    private int position;
+
+    private HashtagQuery(String expression) {
+        this.tokens = tokenize(expression);
+        this.root = parseOr();
+        if (position < tokens.size()) {
+            throw new IllegalArgumentException("Invalid hashtag query: " + expression);
+        }
+    }
+
+    static HashtagQuery parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Hashtag query cannot be empty.");
+        }
+        return new HashtagQuery(expression);
+    }
+
+    /**
+     * 질의에 쓰인 태그 이름
+     */
+    Set<String> names() {
+        return names;
+    }
+
+    /**
+     * @param lookup 태그 이름 -> 글 비트맵 (없는 태그면 빈 비트맵). 반환된 비트맵은 수정하지 않는다.
+     */
+    RoaringBitmap evaluate(Function<String, RoaringBitmap> lookup, RoaringBitmap universe) {
+        Result result = root.evaluate(lookup);
+        return result.negated ? RoaringBitmap.andNot(universe, result.bitmap) : result.bitmap;
+    }
+
+    private Node parseOr() {
+        Node left = parseAnd();
+        while (accept("OR")) {
+            Node l = left;
+            Node r = parseAnd();
+            left = lookup -> or(l.evaluate(lookup), r.evaluate(lookup));
+        }
+        return left;
+    }
+
+    private Node parseAnd() {
+        Node left = parseUnary();
+        while (position < tokens.size() && !peek("OR") && !peek(")")) {
+            accept("AND");
+            Node l = left;
+            Node r = parseUnary();
+            left = lookup -> and(l.evaluate(lookup), r.evaluate(lookup));
+        }
+        return left;
+    }
+
+    private Node parseUnary() {
+        if (accept("NOT")) {
+            Node operand = parseUnary();
+            return lookup -> operand.evaluate(lookup).negate();
+        }
+        if (accept("(")) {
+            Node inner = parseOr();
+            if (!accept(")")) {
+                throw new IllegalArgumentException("Unbalanced parentheses in hashtag query");
+            }
+            return inner;
+        }
+        if (position >= tokens.size() || isOperator(tokens.get(position))) {
+            throw new IllegalArgumentException("Hashtag name expected in hashtag query");
+        }
+        String name = Hashtag.normalize(tokens.get(position++));
+        names.add(name);
+        return lookup -> new Result(lookup.apply(name), false);
+    }
+
+    private static Result and(Result left, Result right) {
+        if (!left.negated && !right.negated) {
+            return new Result(RoaringBitmap.and(left.bitmap, right.bitmap), false);
+        }
+        if (!left.negated) {
+            return new Result(RoaringBitmap.andNot(left.bitmap, right.bitmap), false);
+        }
+        if (!right.negated) {
+            return new Result(RoaringBitmap.andNot(right.bitmap, left.bitmap), false);
+        }
+        // NOT a AND NOT b = NOT (a OR b)
+        return new Result(RoaringBitmap.or(left.bitmap, right.bitmap), true);
+    }
+
+    private static Result or(Result left, Result right) {
+        if (!left.negated && !right.negated) {
+            return new Result(RoaringBitmap.or(left.bitmap, right.bitmap), false);
+        }
+        if (left.negated && right.negated) {
+            // NOT a OR NOT b = NOT (a AND b)
+            return new Result(RoaringBitmap.and(left.bitmap, right.bitmap), true);
+        }
+        // a OR NOT b = NOT (b AND NOT a)
+        Result positive = left.negated ? right : left;
+        Result negative = left.negated ? left : right;
+        return new Result(RoaringBitmap.andNot(negative.bitmap, positive.bitmap), true);
+    }
+
+    private boolean peek(String token) {
+        return position < tokens.size() && tokens.get(position).equals(token);
+    }
+
+    private boolean accept(String token) {
+        if (peek(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals("AND") || token.equals("OR") || token.equals("NOT")
+            || token.equals(")");
+    }
+
+    private static List<String> tokenize(String expression) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (char c : expression.toCharArray()) {
+            if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (current.length() > 0) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+                if (c == '(' || c == ')') {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    @FunctionalInterface
+    private interface Node {
+
+        Result evaluate(Function<String, RoaringBitmap> lookup);
+    }
+
+    private static final class Result {
+
+        private final RoaringBitmap bitmap;
+        private final boolean negated;
+
+        private Result(RoaringBitmap bitmap, boolean negated) {
+            this.bitmap = bitmap;
+            this.negated = negated;
+        }
+
+        private Result negate() {
+            return new Result(bitmap, !negated);
+        }
+    }
+}
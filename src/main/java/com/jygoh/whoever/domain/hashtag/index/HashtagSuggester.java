@@ -0,0 +1,151 @@
+package com.jygoh.whoever.domain.hashtag.index;
+
+import com.jygoh.whoever.domain.hashtag.dto.HashtagSuggestionDto;
+import com.jygoh.whoever.domain.hashtag.event.HashtagIndexRebuiltEvent;
+import com.jygoh.whoever.domain.hashtag.model.Hashtag;
+import com.jygoh.whoever.domain.hashtag.repository.HashtagRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해시태그 자동완성. 정규화된 이름을 정렬된 맵(ConcurrentSkipListMap)에 두고 접두어 범위를 잘라 후보를 찾은 뒤
+ * {@link HashtagIndex} 의 글 수로 순위를 매긴다. 키 입력마다 DB 를 조회하지 않는다.
+ * <p>
+ * 한두 글자 접두어는 범위가 너무 넓어 매번 전부 셀 수 없으므로, 접두어별로 글 수 상위 {@link #TOP_K} 개를 미리
+ * 골라 두고(hashtag.suggest.rank-refresh-ms 마다, 그리고 색인 재구축이 끝날 때 갱신) 그 후보만 현재 글 수로
+ * 다시 정렬한다. 그보다 긴 접두어는 범위 전체를 센다. 시작 직후 색인이 만들어지기 전에는 글 수가 모두 0 이므로
+ * 재구축 완료 시점에 다시 고른다.
+ * <p>
+ * 시작 시 전체 해시태그를 적재하고, 이 노드에서 만든 태그는 {@link #add} 로 바로 반영한다. 다른 노드에서 만든
+ * 태그는 주기적인 재적재(hashtag.suggest.reload-cron)로 들어온다.
+ */
+@Slf4j
+@Component
+public class HashtagSuggester {
+
+    // 접두어별로 미리 골라 두는 후보 수 (한 번에 돌려줄 수 있는 최대 제안 수)
+    public static final int TOP_K = 20;
+
+    // 이 길이 이하의 접두어는 미리 고른 상위 후보에서 찾는다
+    private static final int SHORT_PREFIX_LENGTH = 2;
+
+    private static final Comparator<HashtagSuggestionDto> BY_POST_COUNT = Comparator
+        .comparingInt(HashtagSuggestionDto::getPostCount).reversed()
+        .thenComparing(HashtagSuggestionDto::getName);
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagIndex hashtagIndex;
+    private volatile ConcurrentSkipListMap<String, Long> idByName = new ConcurrentSkipListMap<>();
+    private volatile Map<String, List<String>> topByPrefix = new ConcurrentHashMap<>();
+
+    public HashtagSuggester(HashtagRepository hashtagRepository, HashtagIndex hashtagIndex) {
+        this.hashtagRepository = hashtagRepository;
+        this.hashtagIndex = hashtagIndex;
+    }
+
+    public List<HashtagSuggestionDto> suggest(String prefix, int limit) {
+        String normalized = Hashtag.normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        Map<String, Long> candidates = new HashMap<>();
+        if (normalized.length() <= SHORT_PREFIX_LENGTH) {
+            for (String name : topByPrefix.getOrDefault(normalized, List.of())) {
+                candidates.put(name, idByName.get(name));
+            }
+        } else {
+            // prefix 이상, prefix + U+FFFF 미만이 prefix 로 시작하는 이름의 범위다
+            candidates.putAll(idByName.subMap(normalized, true,
+                normalized + Character.MAX_VALUE, false));
+        }
+        Map<Long, Integer> counts = hashtagIndex.postCounts(candidates.values());
+        return candidates.entrySet().stream()
+            .map(entry -> new HashtagSuggestionDto(entry.getKey(), counts.get(entry.getValue())))
+            .sorted(BY_POST_COUNT)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    public void add(String name, Long hashtagId) {
+        idByName.put(name, hashtagId);
+        // 새 태그는 글이 없으므로 자리가 남은 짧은 접두어에만 넣는다. 순위는 다음 갱신 때 매겨진다
+        for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, name.length()); length++) {
+            topByPrefix.compute(name.substring(0, length), (prefix, names) -> {
+                if (names == null) {
+                    return List.of(name);
+                }
+                if (names.size() >= TOP_K || names.contains(name)) {
+                    return names;
+                }
+                List<String> added = new ArrayList<>(names);
+                added.add(name);
+                return added;
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${hashtag.suggest.reload-cron:0 30 4 * * *}")
+    public void reload() {
+        ConcurrentSkipListMap<String, Long> loaded = new ConcurrentSkipListMap<>();
+        try {
+            hashtagRepository.findAll().forEach(hashtag -> loaded.put(
+                Hashtag.normalize(hashtag.getName()), hashtag.getId()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to load hashtags for suggestions", e);
+            return;
+        }
+        // 적재 중에 추가된 태그를 잃지 않도록 기존 항목을 덮어쓰지 않고 합친다
+        idByName.forEach(loaded::putIfAbsent);
+        idByName = loaded;
+        log.info("Loaded {} hashtags for suggestions", loaded.size());
+        rankShortPrefixes();
+    }
+
+    @EventListener(HashtagIndexRebuiltEvent.class)
+    public void onIndexRebuilt() {
+        rankShortPrefixes();
+    }
+
+    /**
+     * 짧은 접두어마다 글 수 상위 {@link #TOP_K} 개 이름을 다시 고른다. 접두어별로 크기 K 의 힙만 유지하므로
+     * 전체 태그를 한 번 훑는 비용이다.
+     */
+    @Scheduled(fixedDelayString = "${hashtag.suggest.rank-refresh-ms:60000}",
+        initialDelayString = "${hashtag.suggest.rank-refresh-ms:60000}")
+    public void rankShortPrefixes() {
+        Map<String, Long> names = idByName;
+        Map<Long, Integer> counts = hashtagIndex.postCounts(names.values());
+        Map<String, PriorityQueue<HashtagSuggestionDto>> heaps = new HashMap<>();
+        names.forEach((name, id) -> {
+            HashtagSuggestionDto suggestion = new HashtagSuggestionDto(name, counts.get(id));
+            for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, name.length());
+                length++) {
+                // 힙의 머리가 가장 약한 후보가 되도록 순위의 역순으로 둔다
+                PriorityQueue<HashtagSuggestionDto> heap = heaps.computeIfAbsent(
+                    name.substring(0, length),
+                    prefix -> new PriorityQueue<>(BY_POST_COUNT.reversed()));
+                heap.add(suggestion);
+                if (heap.size() > TOP_K) {
+                    heap.poll();
+                }
+            }
+        });
+        Map<String, List<String>> ranked = new ConcurrentHashMap<>();
+        heaps.forEach((prefix, heap) -> ranked.put(prefix, heap.stream().sorted(BY_POST_COUNT)
+            .map(HashtagSuggestionDto::getName).collect(Collectors.toList())));
+        topByPrefix = ranked;
+    }
+}
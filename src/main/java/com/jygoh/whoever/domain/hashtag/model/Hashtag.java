@@ -1,9 +1,14 @@
 package com.jygoh.whoever.domain.hashtag.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.text.Normalizer;
+import java.util.Locale;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,16 +17,40 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_hashtag_name", columnNames = "name"))
 public class Hashtag {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * 정규화가 끝난 이름을 그대로 비교해야 하므로 바이너리 콜레이션을 쓴다. 기본 콜레이션에서는 "café" 와
+     * "cafe" 가 같은 값으로 취급돼 유니크 제약에 걸린다.
+     * <p>
+     * 이 컬럼 정의는 MariaDB(MySQL) 전용이다. 다른 DB(H2 기본 모드 등)에서는 hashtag 테이블 생성이
+     * 경고만 남기고 실패하므로, 해시태그를 저장하는 테스트는 MariaDB 호환 모드나 실제 MariaDB 에서 돌려야 한다.
+     */
+    @Column(nullable = false,
+        columnDefinition = "VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin")
     private String name;
 
     @Builder
     public Hashtag(String name) {
-        this.name = name;
+        this.name = normalize(name);
+    }
+
+    /**
+     * 저장과 조회에 쓰는 이름. 앞뒤 공백과 '#' 을 떼고 NFKC 정규화 후 소문자로 바꾼다. ("#Spring" -> "spring")
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC).strip();
+        while (normalized.startsWith("#")) {
+            normalized = normalized.substring(1).strip();
+        }
+        return normalized.toLowerCase(Locale.ROOT);
     }
 }
@@ -1,10 +1,14 @@
 package com.jygoh.whoever.domain.hashtag.repository;
 
 import com.jygoh.whoever.domain.hashtag.model.Hashtag;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
 
     Optional<Hashtag> findByName(String name);
+
+    List<Hashtag> findByNameIn(Collection<String> names);
 }
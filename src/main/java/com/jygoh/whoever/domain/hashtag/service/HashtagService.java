@@ -1,11 +1,17 @@
 package com.jygoh.whoever.domain.hashtag.service;
 
-import com.jygoh.whoever.domain.hashtag.model.Hashtag;
+import com.jygoh.whoever.domain.hashtag.dto.HashtagSuggestionDto;
 import java.util.List;
 
 public interface HashtagService {
 
-    Hashtag createOrGetHashtag(String name);
+    /**
+     * 이름을 정규화하여 해시태그 id 를 찾고 없으면 만든다. 결과는 중복과 빈 이름을 뺀 입력 순서다.
+     */
+    List<Long> findOrCreateHashtagIds(List<String> names);
 
-    List<Hashtag> findOrCreateHashtags(List<String> names);
+    /**
+     * 접두어로 시작하는 해시태그를 글 수가 많은 순으로 반환한다
+     */
+    List<HashtagSuggestionDto> suggestHashtags(String prefix, int size);
 }
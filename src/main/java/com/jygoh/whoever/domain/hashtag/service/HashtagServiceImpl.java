@@ -1,30 +1,107 @@
 package com.jygoh.whoever.domain.hashtag.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jygoh.whoever.domain.hashtag.dto.HashtagSuggestionDto;
+import com.jygoh.whoever.domain.hashtag.index.HashtagSuggester;
 import com.jygoh.whoever.domain.hashtag.model.Hashtag;
 import com.jygoh.whoever.domain.hashtag.repository.HashtagRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 해시태그 이름 -> id 해석. 자주 쓰는 태그는 로컬 캐시에서 바로 찾고, 나머지는 IN 조회 한 번과 여러 행
+ * INSERT IGNORE 한 번으로 처리한다. 해시태그는 지워지지 않으므로 캐시한 id 는 바뀌지 않는다.
+ * <p>
+ * INSERT IGNORE 와 hashtag.name 컬럼의 바이너리 콜레이션은 MariaDB(MySQL) 문법이다. 다른 DB 로
+ * 옮기면 ON CONFLICT DO NOTHING 등으로 바꿔야 한다.
+ */
 @Service
 @Transactional
 public class HashtagServiceImpl implements HashtagService {
 
     private final HashtagRepository hashtagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final HashtagSuggester hashtagSuggester;
+    private final Cache<String, Long> idByName;
 
-    public HashtagServiceImpl(HashtagRepository hashtagRepository) {
+    public HashtagServiceImpl(HashtagRepository hashtagRepository, JdbcTemplate jdbcTemplate,
+        HashtagSuggester hashtagSuggester,
+        @Value("${hashtag.id-cache.maximum-size:10000}") long maximumSize) {
         this.hashtagRepository = hashtagRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.hashtagSuggester = hashtagSuggester;
+        this.idByName = Caffeine.newBuilder().maximumSize(maximumSize).build();
     }
 
+    /**
+     * 글 트랜잭션 밖에서(자동 커밋) 실행한다. 글 트랜잭션의 스냅숏으로는 동시에 다른 요청이 넣은 태그가 보이지
+     * 않아 INSERT IGNORE 뒤 재조회가 비게 되기 때문이다. 글 저장이 실패해도 남는 것은 빈 태그뿐이다.
+     */
     @Override
-    public Hashtag createOrGetHashtag(String name) {
-        return hashtagRepository.findByName(name)
-            .orElseGet(() -> hashtagRepository.save(Hashtag.builder().name(name).build()));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Long> findOrCreateHashtagIds(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String name : names) {
+            String hashtag = Hashtag.normalize(name);
+            if (!hashtag.isEmpty()) {
+                normalized.add(hashtag);
+            }
+        }
+        Map<String, Long> ids = new HashMap<>(idByName.getAllPresent(normalized));
+        List<String> missing = normalized.stream().filter(name -> !ids.containsKey(name))
+            .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            Map<String, Long> found = load(missing);
+            List<String> created = missing.stream().filter(name -> !found.containsKey(name))
+                .collect(Collectors.toList());
+            if (!created.isEmpty()) {
+                // 동시에 같은 태그를 만든 요청이 있어도 유니크 제약에 걸린 행은 건너뛴다
+                jdbcTemplate.update("INSERT IGNORE INTO hashtag (name) VALUES "
+                        + String.join(", ", Collections.nCopies(created.size(), "(?)")),
+                    created.toArray());
+                Map<String, Long> inserted = load(created);
+                inserted.forEach(hashtagSuggester::add);
+                found.putAll(inserted);
+            }
+            idByName.putAll(found);
+            ids.putAll(found);
+        }
+        List<Long> result = new ArrayList<>(normalized.size());
+        for (String name : normalized) {
+            Long id = ids.get(name);
+            if (id == null) {
+                // INSERT IGNORE 뒤에도 보이지 않으면 다른 이름과 같은 값으로 비교된 것이다
+                throw new IllegalStateException("Hashtag id not found after insert: " + name);
+            }
+            result.add(id);
+        }
+        return result;
     }
 
     @Override
-    public List<Hashtag> findOrCreateHashtags(List<String> names) {
-        return names.stream().map(this::createOrGetHashtag).collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<HashtagSuggestionDto> suggestHashtags(String prefix, int size) {
+        return hashtagSuggester.suggest(prefix,
+            Math.min(Math.max(size, 1), HashtagSuggester.TOP_K));
+    }
+
+    private Map<String, Long> load(List<String> names) {
+        return hashtagRepository.findByNameIn(names).stream()
+            .collect(Collectors.toMap(Hashtag::getName, Hashtag::getId));
     }
 }
@@ -17,9 +17,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member {
 
@@ -88,16 +90,6 @@ public class Member {
     }
 
 
-    public void increaseFollowerCount() {
-        this.followerCount++;
-    }
-
-    public void decreaseFollowerCount() {
-        if (this.followerCount > 0) {
-            this.followerCount--;
-        }
-    }
-
     public void completeSignUp() {
         this.isSignUp = true;
     }
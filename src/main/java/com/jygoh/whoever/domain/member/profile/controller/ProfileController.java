@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -44,9 +45,12 @@ public class ProfileController {
     }
 
     @GetMapping("/me/liked-posts")
-    public ResponseEntity<MyLikedPostsResponseDto> getMyLikedPosts(HttpServletRequest request) {
+    public ResponseEntity<MyLikedPostsResponseDto> getMyLikedPosts(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size, HttpServletRequest request) {
         String token = TokenUtils.extractTokenFromRequest(request);
-        MyLikedPostsResponseDto myLikedPostsResponseDto = profileService.getMyLikedPosts(token);
+        MyLikedPostsResponseDto myLikedPostsResponseDto = profileService.getMyLikedPosts(token,
+            cursor, size);
         return ResponseEntity.ok(myLikedPostsResponseDto);
     }
 }
@@ -17,7 +17,7 @@ public class MemberProfileResponseDtoFactory {
 
     public MemberProfileResponseDto createFromMember(Member member) {
         // 작성한 글의 제목을 조회
-        List<MemberProfileResponseDto.PostForProfileDto> posts = postRepository.findAllByAuthorId(
+        List<MemberProfileResponseDto.PostForProfileDto> posts = postRepository.findSummariesByAuthorId(
                 member.getId()).stream().map(
                 post -> new MemberProfileResponseDto.PostForProfileDto(post.getId(), post.getTitle()))
             .collect(Collectors.toList());
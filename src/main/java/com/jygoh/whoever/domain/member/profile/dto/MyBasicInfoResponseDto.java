@@ -1,7 +1,5 @@
 package com.jygoh.whoever.domain.member.profile.dto;
 
-import com.jygoh.whoever.domain.follow.dto.FollowResponseDto;
-import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,16 +11,16 @@ public class MyBasicInfoResponseDto {
     private String email;
     private String nickname;
     private String profileImageUrl;
-    private List<FollowResponseDto> following;
     private int followerCount;
+    private int followingCount; // 목록은 /api/v1/follow/{memberId}/following 으로 조회
 
     @Builder
     public MyBasicInfoResponseDto(String email, String nickname, String profileImageUrl,
-        List<FollowResponseDto> following, int followerCount) {
+        int followerCount, int followingCount) {
         this.email = email;
         this.nickname = nickname;
         this.profileImageUrl = profileImageUrl;
-        this.following = following;
         this.followerCount = followerCount;
+        this.followingCount = followingCount;
     }
 }
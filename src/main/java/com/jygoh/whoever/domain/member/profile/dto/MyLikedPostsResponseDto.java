@@ -1,5 +1,6 @@
 package com.jygoh.whoever.domain.member.profile.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,10 +11,12 @@ import lombok.NoArgsConstructor;
 public class MyLikedPostsResponseDto {
 
     private List<PostForProfileDto> likedPosts;
+    private String nextCursor; // 마지막 페이지면 null
 
     @Builder
-    public MyLikedPostsResponseDto(List<PostForProfileDto> likedPosts) {
+    public MyLikedPostsResponseDto(List<PostForProfileDto> likedPosts, String nextCursor) {
         this.likedPosts = likedPosts;
+        this.nextCursor = nextCursor;
     }
 
     @Getter
@@ -22,12 +25,17 @@ public class MyLikedPostsResponseDto {
 
         private Long id;
         private String title;
-        private String content;
+        private String thumbnailUrl;
+        private String authorNickname;
+        private LocalDateTime likedAt;
 
-        public PostForProfileDto(Long id, String title, String content) {
+        public PostForProfileDto(Long id, String title, String thumbnailUrl,
+            String authorNickname, LocalDateTime likedAt) {
             this.id = id;
             this.title = title;
-            this.content = content;
+            this.thumbnailUrl = thumbnailUrl;
+            this.authorNickname = authorNickname;
+            this.likedAt = likedAt;
         }
     }
 }
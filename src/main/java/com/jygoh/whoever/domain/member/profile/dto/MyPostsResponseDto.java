@@ -1,5 +1,6 @@
 package com.jygoh.whoever.domain.member.profile.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,12 +23,15 @@ public class MyPostsResponseDto {
 
         private Long id;
         private String title;
-        private String content;
+        private String thumbnailUrl;
+        private LocalDateTime createdAt;
 
-        public PostForProfileDto(Long id, String title, String content) {
+        public PostForProfileDto(Long id, String title, String thumbnailUrl,
+            LocalDateTime createdAt) {
             this.id = id;
             this.title = title;
-            this.content = content;
+            this.thumbnailUrl = thumbnailUrl;
+            this.createdAt = createdAt;
         }
     }
 }
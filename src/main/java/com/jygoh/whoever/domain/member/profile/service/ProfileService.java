@@ -13,5 +13,5 @@ public interface ProfileService {
 
     MyCommentsResponseDto getMyComments(String token);
 
-    MyLikedPostsResponseDto getMyLikedPosts(String token);
+    MyLikedPostsResponseDto getMyLikedPosts(String token, String cursor, int size);
 }
@@ -1,7 +1,7 @@
 package com.jygoh.whoever.domain.member.profile.service;
 
 import com.jygoh.whoever.domain.comment.repository.CommentRepository;
-import com.jygoh.whoever.domain.follow.dto.FollowResponseDto;
+import com.jygoh.whoever.domain.follow.index.FollowGraphIndex;
 import com.jygoh.whoever.domain.follow.repository.FollowRepository;
 import com.jygoh.whoever.domain.member.entity.Member;
 import com.jygoh.whoever.domain.member.profile.dto.MyBasicInfoResponseDto;
@@ -9,12 +9,20 @@ import com.jygoh.whoever.domain.member.profile.dto.MyCommentsResponseDto;
 import com.jygoh.whoever.domain.member.profile.dto.MyLikedPostsResponseDto;
 import com.jygoh.whoever.domain.member.profile.dto.MyPostsResponseDto;
 import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.member.service.AuthorNicknameResolver;
+import com.jygoh.whoever.domain.post.like.LikedPost;
 import com.jygoh.whoever.domain.post.like.PostLikeRepository;
-import com.jygoh.whoever.domain.post.model.Post;
 import com.jygoh.whoever.domain.post.repository.PostRepository;
+import com.jygoh.whoever.domain.post.repository.PostSummary;
+import com.jygoh.whoever.global.pagination.CursorPage;
+import com.jygoh.whoever.global.pagination.TimeCursor;
 import com.jygoh.whoever.global.security.jwt.JwtTokenProvider;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,16 +36,21 @@ public class ProfileServiceImpl implements ProfileService {
     private final PostLikeRepository postLikeRepository;
     private final CommentRepository commentRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AuthorNicknameResolver authorNicknameResolver;
+    private final FollowGraphIndex followGraphIndex;
 
     public ProfileServiceImpl(MemberRepository memberRepository, FollowRepository followRepository,
         PostRepository postRepository, PostLikeRepository postLikeRepository,
-        CommentRepository commentRepository, JwtTokenProvider jwtTokenProvider) {
+        CommentRepository commentRepository, JwtTokenProvider jwtTokenProvider,
+        AuthorNicknameResolver authorNicknameResolver, FollowGraphIndex followGraphIndex) {
         this.memberRepository = memberRepository;
         this.followRepository = followRepository;
         this.postRepository = postRepository;
         this.postLikeRepository = postLikeRepository;
         this.commentRepository = commentRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.authorNicknameResolver = authorNicknameResolver;
+        this.followGraphIndex = followGraphIndex;
     }
 
     @Override
@@ -48,24 +61,23 @@ public class ProfileServiceImpl implements ProfileService {
             .orElseThrow(() -> new IllegalArgumentException("Member not found"));
         return MyBasicInfoResponseDto.builder().email(member.getEmail())
             .nickname(member.getNickname()).profileImageUrl(member.getProfileImageUrl())
-            .following(getFollowingList(memberId)).followerCount(member.getFollowerCount()).build();
+            .followerCount(member.getFollowerCount()).followingCount(getFollowingCount(memberId))
+            .build();
     }
 
-    private List<FollowResponseDto> getFollowingList(Long memberId) {
-        return followRepository.findById_FollowerId(memberId).stream().map(follow -> {
-            Member followee = memberRepository.findById(follow.getFolloweeId())
-                .orElseThrow(() -> new IllegalArgumentException("Followee not found"));
-            return new FollowResponseDto(followee.getId(), followee.getNickname());
-        }).collect(Collectors.toList());
+    // 팔로우 그래프 색인이 적재되어 있으면 배열 길이로 바로 구한다 (다른 노드의 변경은 이벤트로 전달받는다)
+    private int getFollowingCount(Long memberId) {
+        return followGraphIndex.isReady() ? followGraphIndex.followingCount(memberId)
+            : (int) followRepository.countById_FollowerId(memberId);
     }
 
     @Override
     public MyPostsResponseDto getMyPosts(String token) {
         Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
-        List<MyPostsResponseDto.PostForProfileDto> posts = postRepository.findAllByAuthorId(
+        List<MyPostsResponseDto.PostForProfileDto> posts = postRepository.findSummariesByAuthorId(
             memberId).stream().map(
             post -> new MyPostsResponseDto.PostForProfileDto(post.getId(), post.getTitle(),
-                post.getContent())).collect(Collectors.toList());
+                post.getThumbnailUrl(), post.getCreatedAt())).collect(Collectors.toList());
         return MyPostsResponseDto.builder().posts(posts).build();
     }
 
@@ -83,15 +95,37 @@ public class ProfileServiceImpl implements ProfileService {
     }
 
     @Override
-    public MyLikedPostsResponseDto getMyLikedPosts(String token) {
+    public MyLikedPostsResponseDto getMyLikedPosts(String token, String cursor, int size) {
         Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
-        List<MyLikedPostsResponseDto.PostForProfileDto> likedPosts = postLikeRepository.findByMemberId(
-            memberId).stream().map(like -> {
-            Post post = postRepository.findById(like.getPostId())
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
-            return new MyLikedPostsResponseDto.PostForProfileDto(post.getId(), post.getTitle(),
-                post.getContent());
-        }).collect(Collectors.toList());
-        return MyLikedPostsResponseDto.builder().likedPosts(likedPosts).build();
+        int limit = CursorPage.clampSize(size);
+        TimeCursor after = TimeCursor.decode(cursor);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Pageable pageable = PageRequest.ofSize(limit + 1);
+        List<LikedPost> likes = after == null
+            ? postLikeRepository.findLatestLikes(memberId, pageable)
+            : postLikeRepository.findLatestLikesBefore(memberId, after.getTime(), after.getId(),
+                pageable);
+        String nextCursor = null;
+        if (likes.size() > limit) {
+            likes = likes.subList(0, limit);
+            LikedPost last = likes.get(limit - 1);
+            nextCursor = new TimeCursor(last.getLikedAt(), last.getPostId()).encode();
+        }
+        // 페이지의 글과 작성자 닉네임은 각각 한 번에 조회한다
+        Map<Long, PostSummary> posts = postRepository.findSummariesByIdIn(
+                likes.stream().map(LikedPost::getPostId).collect(Collectors.toList())).stream()
+            .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(
+            posts.values().stream().map(PostSummary::getAuthorId).collect(Collectors.toList()));
+        // 삭제된 글은 건너뛴다
+        List<MyLikedPostsResponseDto.PostForProfileDto> likedPosts = likes.stream()
+            .filter(like -> posts.containsKey(like.getPostId())).map(like -> {
+                PostSummary post = posts.get(like.getPostId());
+                return new MyLikedPostsResponseDto.PostForProfileDto(post.getId(),
+                    post.getTitle(), post.getThumbnailUrl(),
+                    nicknames.get(post.getAuthorId()), like.getLikedAt());
+            }).collect(Collectors.toList());
+        return MyLikedPostsResponseDto.builder().likedPosts(likedPosts).nextCursor(nextCursor)
+            .build();
     }
 }
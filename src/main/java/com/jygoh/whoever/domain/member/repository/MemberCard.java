@@ -0,0 +1,13 @@
+package com.jygoh.whoever.domain.member.repository;
+
+/**
+ * 팔로워/팔로잉 목록의 회원 카드용 프로젝션
+ */
+public interface MemberCard {
+
+    Long getId();
+
+    String getNickname();
+
+    String getProfileImageUrl();
+}
@@ -0,0 +1,11 @@
+package com.jygoh.whoever.domain.member.repository;
+
+/**
+ * 닉네임만 필요한 곳에서 Member 엔티티(와 user_providers 컬렉션)를 불러오지 않기 위한 프로젝션.
+ */
+public interface MemberNickname {
+
+    Long getId();
+
+    String getNickname();
+}
@@ -1,8 +1,14 @@
 package com.jygoh.whoever.domain.member.repository;
 
 import com.jygoh.whoever.domain.member.entity.Member;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -13,4 +19,22 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
+
+    @Query("SELECT m.id AS id, m.nickname AS nickname FROM Member m WHERE m.id IN :ids")
+    List<MemberNickname> findNicknamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT m.id AS id, m.nickname AS nickname, m.profileImageUrl AS profileImageUrl "
+        + "FROM Member m WHERE m.id IN :ids")
+    List<MemberCard> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 엔티티를 읽지 않고 DB 에서 바로 증감한다. 0 아래로는 내려가지 않는다
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.followerCount = m.followerCount + :delta "
+        + "WHERE m.id = :memberId AND m.followerCount + :delta >= 0")
+    int addFollowerCount(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    // 영속성 컨텍스트를 거치지 않고 현재 팔로워 수를 읽는다 (addFollowerCount 직후 값 확인용)
+    @Query("SELECT m.followerCount FROM Member m WHERE m.id = :memberId")
+    Optional<Integer> findFollowerCountById(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,42 @@
+package com.jygoh.whoever.domain.member.service;
+
+import com.jygoh.whoever.domain.member.repository.MemberNickname;
+import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 화면의 작성자 닉네임을 한 번의 쿼리로 조회한다.
+ */
+@Component
+public class AuthorNicknameResolver {
+
+    public static final String UNKNOWN = "Unknown";
+
+    private final MemberRepository memberRepository;
+
+    public AuthorNicknameResolver(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * @return memberId -> 닉네임. 존재하지 않는 회원은 {@link #UNKNOWN}
+     */
+    public Map<Long, String> resolve(Collection<Long> memberIds) {
+        Set<Long> ids = new LinkedHashSet<>(memberIds);
+        ids.removeIf(Objects::isNull);
+        Map<Long, String> nicknames = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (MemberNickname member : memberRepository.findNicknamesByIdIn(ids)) {
+                nicknames.put(member.getId(), member.getNickname());
+            }
+        }
+        ids.forEach(id -> nicknames.putIfAbsent(id, UNKNOWN));
+        return nicknames;
+    }
+}
@@ -8,7 +8,9 @@ import com.jygoh.whoever.domain.member.entity.Role;
 import com.jygoh.whoever.domain.member.profile.dto.MemberProfileResponseDto;
 import com.jygoh.whoever.domain.member.profile.dto.MemberProfileResponseDtoFactory;
 import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.post.cache.PostDetailCache;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -21,13 +23,16 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final MemberProfileResponseDtoFactory memberProfileResponseDtoFactory;
+    private final PostDetailCache postDetailCache;
 
     public MemberServiceImpl(MemberRepository memberRepository,
         BCryptPasswordEncoder passwordEncoder,
-        MemberProfileResponseDtoFactory memberProfileResponseDtoFactory) {
+        MemberProfileResponseDtoFactory memberProfileResponseDtoFactory,
+        PostDetailCache postDetailCache) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.memberProfileResponseDtoFactory = memberProfileResponseDtoFactory;
+        this.postDetailCache = postDetailCache;
     }
 
     @Override
@@ -67,8 +72,12 @@ public class MemberServiceImpl implements MemberService {
     public void updateMember(Long id, MemberUpdateRequestDto requestDto) {
         Member member = memberRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Invalid Member Id"));
+        boolean nicknameChanged = !Objects.equals(member.getNickname(), requestDto.getNickname());
         member.updateProfile(requestDto.getEmail(), requestDto.getNickname(),
             passwordEncoder.encode(requestDto.getPassword()), requestDto.getProfileImageUrl());
+        if (nicknameChanged) {
+            postDetailCache.evictByMember(id);
+        }
     }
 
     @Override
@@ -96,5 +105,6 @@ public class MemberServiceImpl implements MemberService {
 
         member.updateNickname(nickname);
         member.completeSignUp();
+        postDetailCache.evictByMember(memberId);
     }
 }
@@ -0,0 +1,290 @@
+package com.jygoh.whoever.domain.post.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jygoh.whoever.domain.comment.repository.CommentRepository;
+import com.jygoh.whoever.domain.post.dto.PostDetailResponseDto;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent.Type;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import com.jygoh.whoever.global.cache.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 조립이 끝난 {@link PostDetailResponseDto} 캐시. 로컬(Caffeine) 캐시를 먼저 보고, 설정 시 Redis 를
+ * 2차 캐시로 사용한다. 조회수/좋아요 수는 캐시 값 위에 실시간 카운터를 덮어써서 응답한다.
+ * <p>
+ * 캐시 미스는 {@link SingleFlight} 로 합쳐 같은 글을 동시에 여러 번 조립하지 않는다.
+ * stale-while-revalidate 를 켜면 무효화되었거나 soft-ttl 이 지난 항목은 백그라운드에서 다시 조립하는
+ * 동안 이전 값으로 응답한다.
+ * <p>
+ * 무효화할 때마다 글별 세대를 올리고, 무효화 전에 읽기 시작한 조립 결과는 캐시에 넣지 않는다.
+ * 글 변경은 {@link PostChangedEvent} 로 다른 노드에도 전달되어 그 노드의 로컬 캐시를 비운다. 댓글과
+ * 닉네임 변경은 전달되지 않으므로 다른 노드에서는 local-ttl 이 최대 지연 시간이 된다.
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private static final String REDIS_KEY_PREFIX = "postDetail:";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Long, CachedDetail> localCache;
+    private final SingleFlight<Long, Loaded> singleFlight;
+    // 글 id 를 고정된 칸에 나눠 세대를 센다. 칸이 겹치면 캐시를 덜 채울 뿐 이전 값을 넣지는 않는다
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2);
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter staleServed;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final boolean staleWhileRevalidate;
+    private final long softTtlNanos;
+
+    public PostDetailCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+        PostRepository postRepository, CommentRepository commentRepository,
+        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+        @Value("${post.detail-cache.maximum-size:10000}") long maximumSize,
+        @Value("${post.detail-cache.local-ttl-seconds:30}") long localTtlSeconds,
+        @Value("${post.detail-cache.redis-enabled:false}") boolean redisEnabled,
+        @Value("${post.detail-cache.redis-ttl-seconds:600}") long redisTtlSeconds,
+        @Value("${post.detail-cache.stale-while-revalidate:false}") boolean staleWhileRevalidate,
+        @Value("${post.detail-cache.soft-ttl-seconds:10}") long softTtlSeconds) {
+        this.localCache = Caffeine.newBuilder().maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds)).build();
+        this.singleFlight = new SingleFlight<>("postDetail", meterRegistry);
+        this.redisTemplate = redisTemplate;
+        // DTO 에 setter 가 없으므로 필드로 직렬화한다
+        this.objectMapper = objectMapper.copy()
+            .setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.staleServed = Counter.builder("singleflight.loads").tag("name", "postDetail")
+            .tag("role", "stale").register(meterRegistry);
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.softTtlNanos = Duration.ofSeconds(softTtlSeconds).toNanos();
+    }
+
+    public PostDetailResponseDto get(Long postId,
+        Function<Long, PostDetailResponseDto> loader) {
+        CachedDetail cached = localCache.getIfPresent(postId);
+        // stale-while-revalidate 를 끄면 무효화 시 항목이 바로 제거되고 local-ttl 로만 만료된다
+        if (cached != null && (!staleWhileRevalidate || !cached.isStale(softTtlNanos))) {
+            return cached.detail;
+        }
+        if (cached != null) {
+            staleServed.increment();
+            // 백그라운드 스레드에는 요청 트랜잭션이 없으므로 새 트랜잭션에서 조립한다
+            singleFlight.refreshAsync(postId,
+                () -> transactionTemplate.execute(status -> loadThrough(postId, loader)),
+                loaded -> putLocal(postId, loaded), refreshExecutor);
+            return cached.detail;
+        }
+        Loaded loaded = singleFlight.load(postId, () -> loadThrough(postId, loader));
+        putLocal(postId, loaded);
+        return loaded.detail;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 캐시를 무효화한다. 커밋 전에 비우면 다른 요청이 이전 데이터로 다시 채울 수 있다.
+     */
+    public void evict(Long postId) {
+        evictAll(List.of(postId));
+    }
+
+    public void evictAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(postIds);
+        afterCommit(() -> invalidate(ids));
+    }
+
+    /**
+     * 다른 노드에서 바뀐 글을 이 노드의 캐시에서도 지운다. 원래 노드가 Redis 를 지운 뒤 이 노드의 조립이
+     * 이전 값을 다시 썼을 수 있으므로 Redis 도 함께 지운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        // 이 노드에서 바뀐 글은 서비스가 커밋 뒤에 이미 무효화했다
+        if (event.isRemote() && event.getType() != Type.CREATED) {
+            invalidate(Set.of(event.getPostId()));
+        }
+    }
+
+    /**
+     * 닉네임 변경처럼 회원이 작성한 글과 댓글이 달린 글 모두에 영향을 주는 변경에 사용한다.
+     */
+    public void evictByMember(Long memberId) {
+        Set<Long> postIds = new HashSet<>(postRepository.findIdsByAuthorId(memberId));
+        postIds.addAll(commentRepository.findPostIdsByAuthorId(memberId));
+        evictAll(postIds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void invalidate(Set<Long> ids) {
+        // 세대를 먼저 올려야 지운 뒤에 끝난 조립이 이전 값을 다시 넣지 않는다
+        ids.forEach(id -> generations.incrementAndGet(stripe(id)));
+        if (staleWhileRevalidate) {
+            ids.forEach(id -> localCache.asMap()
+                .computeIfPresent(id, (key, cached) -> cached.markStale()));
+        } else {
+            localCache.invalidateAll(ids);
+        }
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(
+                    ids.stream().map(id -> REDIS_KEY_PREFIX + id).collect(Collectors.toList()));
+            } catch (DataAccessException e) {
+                log.warn("Failed to evict post detail cache for {}", ids, e);
+            }
+        }
+    }
+
+    private Loaded loadThrough(Long postId, Function<Long, PostDetailResponseDto> loader) {
+        long generation = generation(postId);
+        PostDetailResponseDto detail = readRedis(postId);
+        if (detail == null) {
+            detail = loader.apply(postId);
+            writeRedis(postId, detail, generation);
+        }
+        return new Loaded(detail, generation);
+    }
+
+    private void putLocal(Long postId, Loaded loaded) {
+        if (generation(postId) != loaded.generation) {
+            return;
+        }
+        CachedDetail cached = new CachedDetail(loaded.detail);
+        localCache.put(postId, cached);
+        // 확인과 저장 사이에 무효화가 끼어들었으면 방금 넣은 값을 되돌린다
+        if (generation(postId) != loaded.generation) {
+            localCache.asMap().remove(postId, cached);
+        }
+    }
+
+    private long generation(Long postId) {
+        return generations.get(stripe(postId));
+    }
+
+    private static int stripe(Long postId) {
+        return Math.floorMod(Long.hashCode(postId), GENERATION_STRIPES);
+    }
+
+    private PostDetailResponseDto readRedis(Long postId) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + postId);
+            return json != null ? objectMapper.readValue(json, PostDetailResponseDto.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read post detail cache for {}", postId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long postId, PostDetailResponseDto detail, long generation) {
+        if (!redisEnabled || generation(postId) != generation) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue()
+                .set(REDIS_KEY_PREFIX + postId, objectMapper.writeValueAsString(detail), redisTtl);
+            if (generation(postId) != generation) {
+                redisTemplate.delete(REDIS_KEY_PREFIX + postId);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write post detail cache for {}", postId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Loaded {
+
+        private final PostDetailResponseDto detail;
+        private final long generation;
+
+        private Loaded(PostDetailResponseDto detail, long generation) {
+            this.detail = detail;
+            this.generation = generation;
+        }
+    }
+
+    private static final class CachedDetail {
+
+        private final PostDetailResponseDto detail;
+        private final long loadedAt;
+        private final boolean invalidated;
+
+        private CachedDetail(PostDetailResponseDto detail) {
+            this(detail, System.nanoTime(), false);
+        }
+
+        private CachedDetail(PostDetailResponseDto detail, long loadedAt, boolean invalidated) {
+            this.detail = detail;
+            this.loadedAt = loadedAt;
+            this.invalidated = invalidated;
+        }
+
+        private CachedDetail markStale() {
+            return new CachedDetail(detail, loadedAt, true);
+        }
+
+        private boolean isStale(long softTtlNanos) {
+            return invalidated || System.nanoTime() - loadedAt > softTtlNanos;
+        }
+    }
+}
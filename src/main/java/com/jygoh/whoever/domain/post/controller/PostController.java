@@ -3,10 +3,13 @@ package com.jygoh.whoever.domain.post.controller;
 import com.jygoh.whoever.domain.post.dto.PostCreateRequestDto;
 import com.jygoh.whoever.domain.post.dto.PostDetailResponseDto;
 import com.jygoh.whoever.domain.post.dto.PostListResponseDto;
+import com.jygoh.whoever.domain.post.search.PostSearchService;
 import com.jygoh.whoever.domain.post.service.PostService;
+import com.jygoh.whoever.global.pagination.CursorPage;
 import com.jygoh.whoever.global.security.jwt.TokenUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -25,9 +28,11 @@ public class PostController {
 
     private static final Logger log = LoggerFactory.getLogger(PostController.class);
     private final PostService postService;
+    private final PostSearchService postSearchService;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService, PostSearchService postSearchService) {
         this.postService = postService;
+        this.postSearchService = postSearchService;
     }
 
     @PostMapping
@@ -46,18 +51,60 @@ public class PostController {
 
     @GetMapping
     public List<PostListResponseDto> getAllPosts(@RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size, HttpServletRequest request) {
+        String token = TokenUtils.extractTokenFromRequest(request);
+        return postService.getAllPosts(page, size, token);
+    }
+
+    @GetMapping("/latest")
+    public CursorPage<PostListResponseDto> getLatestPosts(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size, HttpServletRequest request) {
+        String token = TokenUtils.extractTokenFromRequest(request);
+        return postService.getAllPosts(cursor, size, token);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingPosts(
+        @RequestParam(defaultValue = "24h") String window,
+        @RequestParam(defaultValue = "20") int size, HttpServletRequest request) {
+        String token = TokenUtils.extractTokenFromRequest(request);
+        try {
+            return ResponseEntity.ok(postService.getTrendingPosts(window, size, token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/likes")
+    public ResponseEntity<Map<Long, Boolean>> getLikeStates(@RequestParam List<Long> postIds,
+        HttpServletRequest request) {
+        String token = TokenUtils.extractTokenFromRequest(request);
+        if (token == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(postService.getLikeStates(postIds, token));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPosts(@RequestParam("q") String query,
+        @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size) {
-        return postService.getAllPosts(page, size);
+        try {
+            return ResponseEntity.ok(postSearchService.search(query, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/{postId}")
     public ResponseEntity<PostDetailResponseDto> getPost(@PathVariable Long postId,
-        HttpServletRequest request) {
+        @RequestParam(required = false) String format, HttpServletRequest request) {
         try {
             String token = TokenUtils.extractTokenFromRequest(request);
             log.info(token);
             PostDetailResponseDto postDetails = postService.getPostDetail(postId, token);
-            return ResponseEntity.ok(postDetails);
+            return ResponseEntity.ok(postDetails.withFormat(format));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
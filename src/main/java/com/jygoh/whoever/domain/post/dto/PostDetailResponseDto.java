@@ -2,6 +2,7 @@ package com.jygoh.whoever.domain.post.dto;
 
 import com.jygoh.whoever.domain.comment.dto.CommentDto;
 import com.jygoh.whoever.domain.hashtag.dto.HashtagDto;
+import com.jygoh.whoever.domain.post.markdown.MarkdownAnalysis.Heading;
 import com.jygoh.whoever.domain.post.model.Post;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -9,8 +10,6 @@ import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.commonmark.parser.Parser;
-import org.commonmark.renderer.html.HtmlRenderer;
 
 @Getter
 @NoArgsConstructor
@@ -19,47 +18,75 @@ public class PostDetailResponseDto {
     private Long id;
     private String title;
     private String content;
+    private String html;
     private String authorNickname;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<CommentDto> comments;
     private List<HashtagDto> hashtags;
     private int viewCount;
+    private int likeCount;
     private int commentCount;
+    private int wordCount;
+    private List<Heading> headings; // 목차
 
     @Builder
-    public PostDetailResponseDto(Long id, String title, String content, String authorNickname,
-        LocalDateTime createdAt, LocalDateTime updatedAt, List<CommentDto> comments,
-        List<HashtagDto> hashtags, int viewCount, int commentCount) {
+    public PostDetailResponseDto(Long id, String title, String content, String html,
+        String authorNickname, LocalDateTime createdAt, LocalDateTime updatedAt,
+        List<CommentDto> comments, List<HashtagDto> hashtags, int viewCount, int likeCount,
+        int commentCount, int wordCount, List<Heading> headings) {
         this.id = id;
         this.title = title;
         this.content = content;
+        this.html = html;
         this.authorNickname = authorNickname;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.comments = comments;
         this.hashtags = hashtags;
         this.viewCount = viewCount;
+        this.likeCount = likeCount;
         this.commentCount = commentCount;
+        this.wordCount = wordCount;
+        this.headings = headings != null ? headings : new ArrayList<>();
     }
 
     public PostDetailResponseDto(Post post, List<CommentDto> commentDtos,
         List<HashtagDto> hashtagDtos, String authorNickname) {
         this.id = post.getId();
         this.title = post.getTitle();
-        this.content = convertMarkdownToHtml(post.getContent());
+        this.content = post.getContent();
+        this.html = post.getContentHtml();
         this.authorNickname = authorNickname;
         this.createdAt = post.getCreatedAt();
         this.updatedAt = post.getUpdatedAt();
         this.comments = commentDtos != null ? commentDtos : new ArrayList<>();
         this.hashtags = hashtagDtos != null ? hashtagDtos : new ArrayList<>();
         this.viewCount = post.getViewCount();
+        this.likeCount = post.getLikeCount();
         this.commentCount = post.getCommentCount();
+        this.wordCount = post.getWordCount();
+        this.headings = new ArrayList<>();
     }
 
-    private String convertMarkdownToHtml(String markdownContent) {
-        Parser parser = Parser.builder().build();
-        HtmlRenderer renderer = HtmlRenderer.builder().build();
-        return renderer.render(parser.parse(markdownContent));
+    /**
+     * 캐시된 응답에 실시간 카운터 값을 덮어쓴 사본을 만든다.
+     */
+    public PostDetailResponseDto withCounts(int viewCount, int likeCount) {
+        return new PostDetailResponseDto(id, title, content, html, authorNickname, createdAt,
+            updatedAt, comments, hashtags, viewCount, likeCount, commentCount, wordCount, headings);
+    }
+
+    /**
+     * 요청한 본문 형식만 남긴 사본을 만든다. (markdown: content, html: html, 지정하지 않으면 둘 다)
+     */
+    public PostDetailResponseDto withFormat(String format) {
+        if (format == null || format.isBlank()) {
+            return this;
+        }
+        boolean asHtml = "html".equalsIgnoreCase(format);
+        return new PostDetailResponseDto(id, title, asHtml ? null : content,
+            asHtml ? html : null, authorNickname, createdAt, updatedAt, comments, hashtags,
+            viewCount, likeCount, commentCount, wordCount, headings);
     }
 }
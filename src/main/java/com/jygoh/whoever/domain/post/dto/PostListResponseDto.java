@@ -1,6 +1,6 @@
 package com.jygoh.whoever.domain.post.dto;
 
-import com.jygoh.whoever.domain.post.model.Post;
+import com.jygoh.whoever.domain.post.repository.PostSummary;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,13 +15,32 @@ public class PostListResponseDto {
     private String authorNickname;
     private String thumbnailUrl;
     private LocalDateTime createdAt;
+    private int wordCount;
+    // 로그인한 사용자의 좋아요 여부 (비로그인이면 null)
+    private Boolean likedByMe;
 
     @Builder
-    public PostListResponseDto(Post post, String authorNickname) {
+    public PostListResponseDto(PostSummary post, String authorNickname) {
         this.id = post.getId();
         this.title = post.getTitle();
         this.authorNickname = authorNickname;
         this.thumbnailUrl = post.getThumbnailUrl();
         this.createdAt = post.getCreatedAt();
+        this.wordCount = post.getWordCount();
+    }
+
+    /**
+     * 공유되는 목록 응답을 건드리지 않도록 좋아요 여부를 채운 사본을 만든다.
+     */
+    public PostListResponseDto withLikedByMe(Boolean likedByMe) {
+        PostListResponseDto copy = new PostListResponseDto();
+        copy.id = id;
+        copy.title = title;
+        copy.authorNickname = authorNickname;
+        copy.thumbnailUrl = thumbnailUrl;
+        copy.createdAt = createdAt;
+        copy.wordCount = wordCount;
+        copy.likedByMe = likedByMe;
+        return copy;
     }
 }
@@ -0,0 +1,31 @@
+package com.jygoh.whoever.domain.post.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostSearchResponseDto {
+
+    private Long id;
+    private String title;
+    private String authorNickname;
+    private String thumbnailUrl;
+    private LocalDateTime createdAt;
+    private String snippet; // 검색어를 <em> 으로 감싼 본문 일부 (HTML)
+    private float score;
+
+    @Builder
+    public PostSearchResponseDto(Long id, String title, String authorNickname,
+        String thumbnailUrl, LocalDateTime createdAt, String snippet, float score) {
+        this.id = id;
+        this.title = title;
+        this.authorNickname = authorNickname;
+        this.thumbnailUrl = thumbnailUrl;
+        this.createdAt = createdAt;
+        this.snippet = snippet;
+        this.score = score;
+    }
+}
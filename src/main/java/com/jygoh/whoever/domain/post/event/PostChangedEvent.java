@@ -0,0 +1,79 @@
+package com.jygoh.whoever.domain.post.event;
+
+import com.jygoh.whoever.domain.post.model.Post;
+import com.jygoh.whoever.global.event.ClusterEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 작성/수정/삭제 후 발행된다. 검색 색인처럼 DB 밖에 있는 파생 데이터는 커밋 후
+ * ({@code @TransactionalEventListener}) 이 이벤트로 갱신한다. 다른 노드에도 전달된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true) // 다른 노드에서 받은 이벤트 역직렬화용
+public class PostChangedEvent implements ClusterEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long postId;
+    private final String title;
+    private final String content;
+    private final Long authorId;
+    private final LocalDateTime createdAt;
+    private final List<Long> hashtagIds;
+    private final List<Long> previousHashtagIds; // 변경 전 해시태그 (작성 시 비어 있음)
+    private final boolean remote;
+
+    public PostChangedEvent(Type type, Post post) {
+        this(type, post, type == Type.CREATED ? List.of() : post.getHashtagIds());
+    }
+
+    public PostChangedEvent(Type type, Post post, Collection<Long> previousHashtagIds) {
+        this.type = type;
+        this.postId = post.getId();
+        this.title = post.getTitle();
+        this.content = post.getContent();
+        this.authorId = post.getAuthorId();
+        this.createdAt = post.getCreatedAt();
+        // 커밋 전후로 엔티티 컬렉션이 바뀌어도 영향받지 않도록 복사한다
+        this.hashtagIds = new ArrayList<>(post.getHashtagIds());
+        this.previousHashtagIds = new ArrayList<>(previousHashtagIds);
+        this.remote = false;
+    }
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+
+    /**
+     * 이 변경으로 새로 붙은 해시태그
+     */
+    public List<Long> getAddedHashtagIds() {
+        if (isDeleted()) {
+            return List.of();
+        }
+        List<Long> added = new ArrayList<>(hashtagIds);
+        added.removeAll(previousHashtagIds);
+        return added;
+    }
+
+    /**
+     * 이 변경으로 떨어진 해시태그 (삭제면 전부)
+     */
+    public List<Long> getRemovedHashtagIds() {
+        if (isDeleted()) {
+            return previousHashtagIds;
+        }
+        List<Long> removed = new ArrayList<>(previousHashtagIds);
+        removed.removeAll(hashtagIds);
+        return removed;
+    }
+}
@@ -0,0 +1,13 @@
+package com.jygoh.whoever.domain.post.like;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 좋아요 타임라인용 프로젝션
+ */
+public interface LikedPost {
+
+    Long getPostId();
+
+    LocalDateTime getLikedAt();
+}
@@ -1,15 +1,21 @@
 package com.jygoh.whoever.domain.post.like;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = @Index(name = "idx_post_like_member_liked_at", columnList = "member_id, liked_at"))
 @Getter
 @IdClass(LikeId.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,10 +27,16 @@ public class PostLike {
     @Id
     private Long memberId;
 
+    // 컬럼 추가 전의 행은 기본값(추가 시각)으로 채워진다
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(nullable = false)
+    private LocalDateTime likedAt;
+
     @Builder
-    public PostLike(Long postId, Long memberId) {
+    public PostLike(Long postId, Long memberId, LocalDateTime likedAt) {
         this.postId = postId;
         this.memberId = memberId;
+        this.likedAt = likedAt != null ? likedAt : LocalDateTime.now();
     }
 
     @Override
@@ -1,12 +1,35 @@
 package com.jygoh.whoever.domain.post.like;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     Optional<PostLike> findByPostIdAndMemberId(Long postId, Long memberId);
 
-    List<PostLike> findByMemberId(Long memberId);
+    @Query("SELECT pl.memberId FROM PostLike pl WHERE pl.postId = :postId")
+    List<Long> findMemberIdsByPostId(@Param("postId") Long postId);
+
+    // idx_post_like_member_liked_at 을 타는 키셋 페이지네이션 (최근 좋아요 순)
+    @Query("SELECT pl.postId AS postId, pl.likedAt AS likedAt FROM PostLike pl "
+        + "WHERE pl.memberId = :memberId ORDER BY pl.likedAt DESC, pl.postId DESC")
+    List<LikedPost> findLatestLikes(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT pl.postId AS postId, pl.likedAt AS likedAt FROM PostLike pl "
+        + "WHERE pl.memberId = :memberId AND (pl.likedAt < :likedAt "
+        + "OR (pl.likedAt = :likedAt AND pl.postId < :postId)) "
+        + "ORDER BY pl.likedAt DESC, pl.postId DESC")
+    List<LikedPost> findLatestLikesBefore(@Param("memberId") Long memberId,
+        @Param("likedAt") LocalDateTime likedAt, @Param("postId") Long postId,
+        Pageable pageable);
+
+    @Query("SELECT pl.postId FROM PostLike pl WHERE pl.memberId = :memberId AND pl.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("memberId") Long memberId,
+        @Param("postIds") Collection<Long> postIds);
 }
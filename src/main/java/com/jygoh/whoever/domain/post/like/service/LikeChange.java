@@ -0,0 +1,44 @@
+package com.jygoh.whoever.domain.post.like.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import lombok.Getter;
+
+@Getter
+public class LikeChange {
+
+    private final Long postId;
+    private final Long memberId;
+    private final LocalDateTime likedAt; // 좋아요 취소면 null
+
+    public LikeChange(Long postId, Long memberId, LocalDateTime likedAt) {
+        this.postId = postId;
+        this.memberId = memberId;
+        this.likedAt = likedAt;
+    }
+
+    public boolean isLiked() {
+        return likedAt != null;
+    }
+
+    String field() {
+        return postId + ":" + memberId;
+    }
+
+    // 저장소에는 좋아요 시각(epoch millis) 또는 취소를 뜻하는 "0" 으로 기록한다
+    String value() {
+        return likedAt != null
+            ? String.valueOf(likedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+            : "0";
+    }
+
+    static LikeChange of(String field, String value) {
+        int separator = field.indexOf(':');
+        long likedAtMillis = Long.parseLong(value);
+        LocalDateTime likedAt = likedAtMillis > 0 ? LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(likedAtMillis), ZoneId.systemDefault()) : null;
+        return new LikeChange(Long.valueOf(field.substring(0, separator)),
+            Long.valueOf(field.substring(separator + 1)), likedAt);
+    }
+}
@@ -0,0 +1,89 @@
+package com.jygoh.whoever.domain.post.like.service;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link LikeStore} 에 쌓인 좋아요 변경을 배치로 post_like 테이블에 반영하고, 변경된 글의 like_count 를
+ * post_like 기준으로 다시 계산한다. 삭제된 글에 대한 좋아요는 반영하지 않는다.
+ */
+@Slf4j
+@Component
+public class LikeReconciler {
+
+    // 한 주기 안에 취소 후 다시 누른 좋아요는 기존 행이 남아 있으므로 좋아요 시각만 새로 바꾼다
+    private static final String UPSERT_SQL =
+        "INSERT INTO post_like (post_id, member_id, liked_at) "
+            + "SELECT id, ?, ? FROM post WHERE id = ? "
+            + "ON DUPLICATE KEY UPDATE liked_at = VALUES(liked_at)";
+    private static final String DELETE_SQL =
+        "DELETE FROM post_like WHERE post_id = ? AND member_id = ?";
+    private static final String RECOUNT_SQL =
+        "UPDATE post SET like_count = (SELECT COUNT(*) FROM post_like WHERE post_id = ?) "
+            + "WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final LikeStore likeStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public LikeReconciler(LikeStore likeStore, JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate) {
+        this.likeStore = likeStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${post.like.reconcile-interval-ms:5000}")
+    public synchronized void reconcile() {
+        List<LikeChange> changes = likeStore.drainChanges();
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<LikeChange> likes = new ArrayList<>();
+        List<LikeChange> unlikes = new ArrayList<>();
+        // 정렬된 순서로 갱신해 노드 간 잠금 순서를 맞춘다
+        Set<Long> postIds = new TreeSet<>();
+        for (LikeChange change : changes) {
+            (change.isLiked() ? likes : unlikes).add(change);
+            postIds.add(change.getPostId());
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, likes, BATCH_SIZE, (ps, change) -> {
+                    ps.setLong(1, change.getMemberId());
+                    ps.setTimestamp(2, Timestamp.valueOf(change.getLikedAt()));
+                    ps.setLong(3, change.getPostId());
+                });
+                jdbcTemplate.batchUpdate(DELETE_SQL, unlikes, BATCH_SIZE, (ps, change) -> {
+                    ps.setLong(1, change.getPostId());
+                    ps.setLong(2, change.getMemberId());
+                });
+                jdbcTemplate.batchUpdate(RECOUNT_SQL, new ArrayList<>(postIds), BATCH_SIZE,
+                    (ps, postId) -> {
+                        ps.setLong(1, postId);
+                        ps.setLong(2, postId);
+                    });
+            });
+        } catch (DataAccessException e) {
+            // 반영하지 못한 변경은 되돌려 다음 주기에 다시 시도한다
+            log.warn("Failed to reconcile {} like changes", changes.size(), e);
+            likeStore.restoreChanges(changes);
+        }
+    }
+
+    @PreDestroy
+    public void reconcileOnShutdown() {
+        reconcile();
+    }
+}
@@ -0,0 +1,41 @@
+package com.jygoh.whoever.domain.post.like.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 좋아요 상태와 좋아요 수의 1차 저장소. 토글은 저장소 안에서 원자적으로 처리되고, 변경 내역은
+ * {@link LikeReconciler} 가 모아서 post_like 테이블과 post.like_count 에 반영한다.
+ * <p>
+ * 글의 좋아요 목록은 처음 접근할 때 DB 에서 한 번 적재한다.
+ */
+public interface LikeStore {
+
+    LikeToggleResult toggle(Long postId, Long memberId);
+
+    boolean isLiked(Long postId, Long memberId);
+
+    /**
+     * 여러 글에 대한 좋아요 여부를 한 번에 조회한다. 적재되지 않은 글은 DB 에서 한 번의 쿼리로 확인하며,
+     * 조회 때문에 글을 적재하지는 않는다.
+     */
+    Map<Long, Boolean> areLiked(Collection<Long> postIds, Long memberId);
+
+    /**
+     * 적재된 글이면 현재 좋아요 수, 아직 적재되지 않았으면 null
+     */
+    Long getLikeCount(Long postId);
+
+    /**
+     * 마지막 drain 이후 상태가 바뀐 (글, 회원) 쌍의 최종 상태를 꺼낸다.
+     */
+    List<LikeChange> drainChanges();
+
+    /**
+     * DB 반영에 실패한 변경을 되돌린다. 그 사이 다시 바뀐 쌍은 최신 상태를 유지한다.
+     */
+    void restoreChanges(List<LikeChange> changes);
+
+    void evict(Long postId);
+}
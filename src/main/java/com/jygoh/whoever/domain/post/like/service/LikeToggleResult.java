@@ -0,0 +1,15 @@
+package com.jygoh.whoever.domain.post.like.service;
+
+import lombok.Getter;
+
+@Getter
+public class LikeToggleResult {
+
+    private final boolean liked;
+    private final long likeCount;
+
+    public LikeToggleResult(boolean liked, long likeCount) {
+        this.liked = liked;
+        this.likeCount = likeCount;
+    }
+}
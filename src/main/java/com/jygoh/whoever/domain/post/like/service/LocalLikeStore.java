@@ -0,0 +1,152 @@
+package com.jygoh.whoever.domain.post.like.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jygoh.whoever.domain.post.like.PostLikeRepository;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 를 사용하지 않을 때의 프로세스 내부 좋아요 저장소. 글 단위로 잠그므로 서로 다른 글의 토글은
+ * 경합하지 않는다. 한동안 접근하지 않은 글은 메모리에서 빠지며, 다시 적재할 때 아직 DB 에 반영되지 않은
+ * 변경을 덮어쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "false")
+public class LocalLikeStore implements LikeStore {
+
+    private final Cache<Long, Set<Long>> membersByPost;
+    // "postId:memberId" -> 최종 상태 (좋아요 시각 또는 "0")
+    private final ConcurrentHashMap<String, String> dirty = new ConcurrentHashMap<>();
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+
+    public LocalLikeStore(PostRepository postRepository, PostLikeRepository postLikeRepository,
+        @Value("${post.like.store-ttl-seconds:86400}") long ttlSeconds) {
+        this.membersByPost = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofSeconds(ttlSeconds)).build();
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+    }
+
+    @Override
+    public LikeToggleResult toggle(Long postId, Long memberId) {
+        Set<Long> members = members(postId);
+        synchronized (members) {
+            boolean liked = !members.remove(memberId);
+            if (liked) {
+                members.add(memberId);
+            }
+            // 같은 글의 토글은 이 잠금 안에서 순서대로 기록되므로 마지막 상태가 남는다
+            LikeChange change = new LikeChange(postId, memberId,
+                liked ? LocalDateTime.now() : null);
+            dirty.put(change.field(), change.value());
+            return new LikeToggleResult(liked, members.size());
+        }
+    }
+
+    @Override
+    public boolean isLiked(Long postId, Long memberId) {
+        Set<Long> members = members(postId);
+        synchronized (members) {
+            return members.contains(memberId);
+        }
+    }
+
+    @Override
+    public Map<Long, Boolean> areLiked(Collection<Long> postIds, Long memberId) {
+        Map<Long, Boolean> liked = new LinkedHashMap<>();
+        List<Long> notLoaded = new ArrayList<>();
+        for (Long postId : postIds) {
+            Set<Long> members = membersByPost.getIfPresent(postId);
+            if (members == null) {
+                notLoaded.add(postId);
+                liked.put(postId, false);
+                continue;
+            }
+            synchronized (members) {
+                liked.put(postId, members.contains(memberId));
+            }
+        }
+        if (!notLoaded.isEmpty()) {
+            postLikeRepository.findLikedPostIds(memberId, notLoaded)
+                .forEach(postId -> liked.put(postId, true));
+            // 아직 DB 에 반영되지 않은 변경을 덮어쓴다
+            for (Long postId : notLoaded) {
+                String state = dirty.get(postId + ":" + memberId);
+                if (state != null) {
+                    liked.put(postId, !"0".equals(state));
+                }
+            }
+        }
+        return liked;
+    }
+
+    @Override
+    public Long getLikeCount(Long postId) {
+        Set<Long> members = membersByPost.getIfPresent(postId);
+        if (members == null) {
+            return null;
+        }
+        synchronized (members) {
+            return (long) members.size();
+        }
+    }
+
+    @Override
+    public List<LikeChange> drainChanges() {
+        List<LikeChange> changes = new ArrayList<>();
+        for (Map.Entry<String, String> entry : dirty.entrySet()) {
+            // 읽은 뒤 다시 바뀐 항목은 남겨 두고 다음 drain 에서 가져간다
+            if (dirty.remove(entry.getKey(), entry.getValue())) {
+                changes.add(LikeChange.of(entry.getKey(), entry.getValue()));
+            }
+        }
+        return changes;
+    }
+
+    @Override
+    public void restoreChanges(List<LikeChange> changes) {
+        for (LikeChange change : changes) {
+            dirty.putIfAbsent(change.field(), change.value());
+        }
+    }
+
+    @Override
+    public void evict(Long postId) {
+        membersByPost.invalidate(postId);
+    }
+
+    private Set<Long> members(Long postId) {
+        return membersByPost.get(postId, id -> {
+            if (!postRepository.existsById(id)) {
+                throw new IllegalArgumentException("Post not found");
+            }
+            Set<Long> members = new HashSet<>(postLikeRepository.findMemberIdsByPostId(id));
+            String prefix = id + ":";
+            dirty.forEach((field, state) -> {
+                if (field.startsWith(prefix)) {
+                    Long memberId = Long.valueOf(field.substring(prefix.length()));
+                    if ("0".equals(state)) {
+                        members.remove(memberId);
+                    } else {
+                        members.add(memberId);
+                    }
+                }
+            });
+            return members;
+        });
+    }
+}
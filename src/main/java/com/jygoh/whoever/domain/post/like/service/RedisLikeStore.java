@@ -0,0 +1,229 @@
+package com.jygoh.whoever.domain.post.like.service;
+
+import com.jygoh.whoever.domain.post.like.PostLikeRepository;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 글별 좋아요 회원과 좋아요 수를 Redis 해시 하나(postLike:{id})에 둔다. 회원 ID 를 필드로 두고 적재 표시
+ * 필드를 하나 더 두므로 좋아요 수는 HLEN - 1 이다. 회원 목록과 좋아요 수가 한 키에 있어 한쪽만 만료되거나
+ * 축출될 수 없다. 토글은 Lua 스크립트 하나로 해시와 변경 내역(dirty 해시)을 함께 갱신하므로 한 번의
+ * 왕복으로 끝나고 행 잠금을 기다리지 않는다.
+ * <p>
+ * 글 키는 접근할 때마다 만료 시간을 늘리므로 한동안 읽히지 않은 글만 Redis 에서 빠진다. 다시 적재할 때는
+ * 아직 DB 에 반영되지 않은 변경 내역을 덮어쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisLikeStore implements LikeStore {
+
+    private static final String POST_KEY_PREFIX = "postLike:";
+    private static final String DIRTY_KEY = "postLike:dirty";
+    private static final String LOADED_FIELD = "loaded";
+
+    // 적재되지 않은 글이면 {-1, 0}, 아니면 {좋아요 여부, 좋아요 수}. ARGV[3] 은 좋아요 시각(epoch millis)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXPIRE', KEYS[1], ARGV[4]) == 0 then return {-1, 0} end "
+            + "local liked = 1 "
+            + "if redis.call('HDEL', KEYS[1], ARGV[2]) == 1 then liked = 0 "
+            + "else redis.call('HSET', KEYS[1], ARGV[2], '1') end "
+            + "local state = '0' "
+            + "if liked == 1 then state = ARGV[3] end "
+            + "redis.call('HSET', KEYS[2], ARGV[1] .. ':' .. ARGV[2], state) "
+            + "return {liked, redis.call('HLEN', KEYS[1]) - 1}", List.class);
+
+    // EXPIRE 는 키가 없으면 0 을 돌려주므로 적재 여부 확인과 만료 연장을 함께 한다
+    private static final String IS_LIKED_LUA =
+        "if redis.call('EXPIRE', KEYS[1], ARGV[2]) == 0 then return -1 end "
+            + "return redis.call('HEXISTS', KEYS[1], ARGV[1])";
+    private static final RedisScript<Long> IS_LIKED_SCRIPT = new DefaultRedisScript<>(
+        IS_LIKED_LUA, Long.class);
+    private static final byte[] IS_LIKED_LUA_BYTES = IS_LIKED_LUA.getBytes(
+        StandardCharsets.UTF_8);
+
+    private static final RedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXPIRE', KEYS[1], ARGV[1]) == 0 then return -1 end "
+            + "return redis.call('HLEN', KEYS[1]) - 1", Long.class);
+
+    // 다른 노드가 먼저 적재했다면 아무것도 하지 않는다. 아직 DB 에 반영되지 않은 변경은 덮어쓴다
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+            + "redis.call('HSET', KEYS[1], '" + LOADED_FIELD + "', '1') "
+            + "for i = 3, #ARGV do redis.call('HSET', KEYS[1], ARGV[i], '1') end "
+            + "local prefix = ARGV[1] .. ':' "
+            + "local dirty = redis.call('HGETALL', KEYS[2]) "
+            + "for i = 1, #dirty, 2 do "
+            + "if string.sub(dirty[i], 1, #prefix) == prefix then "
+            + "local member = string.sub(dirty[i], #prefix + 1) "
+            + "if dirty[i + 1] == '0' then redis.call('HDEL', KEYS[1], member) "
+            + "else redis.call('HSET', KEYS[1], member, '1') end "
+            + "end "
+            + "end "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+            + "return 1", Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+        "local entries = redis.call('HGETALL', KEYS[1]) "
+            + "redis.call('DEL', KEYS[1]) "
+            + "return entries", List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final String ttlSeconds;
+
+    public RedisLikeStore(RedisTemplate<String, String> redisTemplate,
+        PostRepository postRepository, PostLikeRepository postLikeRepository,
+        @Value("${post.like.store-ttl-seconds:86400}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.ttlSeconds = String.valueOf(ttlSeconds);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public LikeToggleResult toggle(Long postId, Long memberId) {
+        String now = String.valueOf(System.currentTimeMillis());
+        List<String> keys = Arrays.asList(postKey(postId), DIRTY_KEY);
+        List<Object> result = redisTemplate.execute(TOGGLE_SCRIPT, keys, postId.toString(),
+            memberId.toString(), now, ttlSeconds);
+        if (toLong(result.get(0)) < 0) {
+            load(postId);
+            result = redisTemplate.execute(TOGGLE_SCRIPT, keys, postId.toString(),
+                memberId.toString(), now, ttlSeconds);
+        }
+        return new LikeToggleResult(toLong(result.get(0)) == 1, toLong(result.get(1)));
+    }
+
+    @Override
+    public boolean isLiked(Long postId, Long memberId) {
+        List<String> keys = Collections.singletonList(postKey(postId));
+        Long result = redisTemplate.execute(IS_LIKED_SCRIPT, keys, memberId.toString(),
+            ttlSeconds);
+        if (result != null && result < 0) {
+            load(postId);
+            result = redisTemplate.execute(IS_LIKED_SCRIPT, keys, memberId.toString(),
+                ttlSeconds);
+        }
+        return Long.valueOf(1).equals(result);
+    }
+
+    @Override
+    public Map<Long, Boolean> areLiked(Collection<Long> postIds, Long memberId) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(postIds));
+        byte[] member = bytes(memberId.toString());
+        byte[] ttl = bytes(ttlSeconds);
+        List<Object> results = redisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                for (Long postId : ids) {
+                    connection.scriptingCommands().eval(IS_LIKED_LUA_BYTES, ReturnType.INTEGER,
+                        1, bytes(postKey(postId)), member, ttl);
+                }
+                return null;
+            });
+        Map<Long, Boolean> liked = new LinkedHashMap<>();
+        List<Long> notLoaded = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            long result = toLong(results.get(i));
+            if (result < 0) {
+                notLoaded.add(ids.get(i));
+            }
+            liked.put(ids.get(i), result == 1);
+        }
+        // 적재되지 않은 글은 DB 값에 아직 반영되지 않은 변경만 덮어쓴다
+        if (!notLoaded.isEmpty()) {
+            Set<Long> likedInDb = new HashSet<>(
+                postLikeRepository.findLikedPostIds(memberId, notLoaded));
+            List<Object> fields = new ArrayList<>();
+            notLoaded.forEach(postId -> fields.add(postId + ":" + memberId));
+            List<Object> pending = redisTemplate.opsForHash().multiGet(DIRTY_KEY, fields);
+            for (int i = 0; i < notLoaded.size(); i++) {
+                Object state = pending.get(i);
+                liked.put(notLoaded.get(i), state != null ? !"0".equals(state.toString())
+                    : likedInDb.contains(notLoaded.get(i)));
+            }
+        }
+        return liked;
+    }
+
+    @Override
+    public Long getLikeCount(Long postId) {
+        Long count = redisTemplate.execute(COUNT_SCRIPT,
+            Collections.singletonList(postKey(postId)), ttlSeconds);
+        return count != null && count >= 0 ? count : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<LikeChange> drainChanges() {
+        List<String> entries = redisTemplate.execute(DRAIN_SCRIPT,
+            Collections.singletonList(DIRTY_KEY));
+        List<LikeChange> changes = new ArrayList<>();
+        if (entries == null) {
+            return changes;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            changes.add(LikeChange.of(entries.get(i), entries.get(i + 1)));
+        }
+        return changes;
+    }
+
+    @Override
+    public void restoreChanges(List<LikeChange> changes) {
+        for (LikeChange change : changes) {
+            redisTemplate.opsForHash()
+                .putIfAbsent(DIRTY_KEY, change.field(), change.value());
+        }
+    }
+
+    @Override
+    public void evict(Long postId) {
+        redisTemplate.delete(postKey(postId));
+    }
+
+    private void load(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("Post not found");
+        }
+        List<String> args = new ArrayList<>();
+        args.add(postId.toString());
+        args.add(ttlSeconds);
+        postLikeRepository.findMemberIdsByPostId(postId)
+            .forEach(memberId -> args.add(memberId.toString()));
+        redisTemplate.execute(LOAD_SCRIPT, Arrays.asList(postKey(postId), DIRTY_KEY),
+            args.toArray());
+    }
+
+    private static String postKey(Long postId) {
+        return POST_KEY_PREFIX + postId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toLong(Object value) {
+        return Long.parseLong(String.valueOf(value));
+    }
+}
@@ -0,0 +1,36 @@
+package com.jygoh.whoever.domain.post.markdown;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+public class MarkdownAnalysis {
+
+    private final String thumbnailUrl; // 첫 번째 이미지
+    private final List<String> imageUrls;
+    private final List<Heading> headings;
+    private final int wordCount;
+
+    public MarkdownAnalysis(List<String> imageUrls, List<Heading> headings, int wordCount) {
+        this.thumbnailUrl = imageUrls.isEmpty() ? null : imageUrls.get(0);
+        this.imageUrls = imageUrls;
+        this.headings = headings;
+        this.wordCount = wordCount;
+    }
+
+    // 게시글 상세 응답에 담겨 캐시되므로 역직렬화할 수 있어야 한다
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Heading {
+
+        private int level;
+        private String text;
+
+        public Heading(int level, String text) {
+            this.level = level;
+            this.text = text;
+        }
+    }
+}
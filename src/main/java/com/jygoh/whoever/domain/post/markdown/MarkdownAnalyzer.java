@@ -0,0 +1,144 @@
+package com.jygoh.whoever.domain.post.markdown;
+
+import com.jygoh.whoever.domain.post.markdown.MarkdownAnalysis.Heading;
+import java.util.ArrayList;
+import java.util.List;
+import org.commonmark.node.Block;
+import org.commonmark.node.Code;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.HtmlBlock;
+import org.commonmark.node.HtmlInline;
+import org.commonmark.node.Image;
+import org.commonmark.node.IndentedCodeBlock;
+import org.commonmark.node.Node;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 마크다운을 CommonMark AST 로 한 번만 파싱하고 순회해 썸네일, 이미지 목록, 목차, 단어 수를 구한다.
+ * HTML 로 렌더링한 뒤 다시 파싱하지 않는다. {@link Parser} 는 스레드 안전하므로 공유한다.
+ */
+@Component
+public class MarkdownAnalyzer {
+
+    private static final Parser PARSER = Parser.builder().build();
+
+    /**
+     * 글 작성/수정 시 썸네일(첫 번째 이미지)과 단어 수를, 상세 조회 시 목차를 여기서 구한다.
+     */
+    public MarkdownAnalysis analyze(String markdown) {
+        List<String> imageUrls = new ArrayList<>();
+        List<Heading> headings = new ArrayList<>();
+        int wordCount = 0;
+        if (markdown == null) {
+            return new MarkdownAnalysis(imageUrls, headings, wordCount);
+        }
+        Node node = PARSER.parse(markdown);
+        while (node != null) {
+            String url = imageUrl(node);
+            if (url != null) {
+                imageUrls.add(url);
+            }
+            if (node instanceof org.commonmark.node.Heading heading) {
+                headings.add(new Heading(heading.getLevel(), textOf(heading)));
+            } else if (node instanceof Text text) {
+                wordCount += countWords(text.getLiteral());
+            } else if (node instanceof Code code) {
+                wordCount += countWords(code.getLiteral());
+            }
+            node = next(node);
+        }
+        return new MarkdownAnalysis(imageUrls, headings, wordCount);
+    }
+
+    /**
+     * 마크다운 문법과 이미지 주소를 뺀 본문 텍스트 (검색 색인, 스니펫용). 블록 사이는 공백으로 구분한다.
+     */
+    public String extractPlainText(String markdown) {
+        if (markdown == null) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        Node node = PARSER.parse(markdown);
+        while (node != null) {
+            if (node instanceof Text literal) {
+                text.append(literal.getLiteral());
+            } else if (node instanceof Code code) {
+                text.append(code.getLiteral());
+            } else if (node instanceof FencedCodeBlock block) {
+                text.append(block.getLiteral());
+            } else if (node instanceof IndentedCodeBlock block) {
+                text.append(block.getLiteral());
+            } else if (node instanceof SoftLineBreak || node instanceof HardLineBreak
+                || node instanceof Block) {
+                text.append(' ');
+            }
+            node = next(node);
+        }
+        return text.toString().trim();
+    }
+
+    // 전위 순회 순서의 다음 노드
+    private Node next(Node node) {
+        if (node.getFirstChild() != null) {
+            return node.getFirstChild();
+        }
+        while (node != null) {
+            if (node.getNext() != null) {
+                return node.getNext();
+            }
+            node = node.getParent();
+        }
+        return null;
+    }
+
+    private String imageUrl(Node node) {
+        if (node instanceof Image image) {
+            return image.getDestination();
+        }
+        // 본문에 직접 작성한 <img> 태그도 렌더링 결과와 동일하게 이미지로 취급한다
+        String html = null;
+        if (node instanceof HtmlBlock block) {
+            html = block.getLiteral();
+        } else if (node instanceof HtmlInline inline) {
+            html = inline.getLiteral();
+        }
+        if (html == null || !html.toLowerCase().contains("<img")) {
+            return null;
+        }
+        Element img = Jsoup.parseBodyFragment(html).selectFirst("img");
+        return img != null ? img.attr("src") : null;
+    }
+
+    private String textOf(Node parent) {
+        StringBuilder text = new StringBuilder();
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNext()) {
+            if (child instanceof Text literal) {
+                text.append(literal.getLiteral());
+            } else if (child instanceof Code code) {
+                text.append(code.getLiteral());
+            } else {
+                text.append(textOf(child));
+            }
+        }
+        return text.toString();
+    }
+
+    private int countWords(String literal) {
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < literal.length(); i++) {
+            boolean whitespace = Character.isWhitespace(literal.charAt(i));
+            if (!whitespace && !inWord) {
+                count++;
+            }
+            inWord = !whitespace;
+        }
+        return count;
+    }
+}
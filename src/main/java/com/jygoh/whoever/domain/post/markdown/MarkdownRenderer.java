@@ -0,0 +1,47 @@
+package com.jygoh.whoever.domain.post.markdown;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document.OutputSettings;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 마크다운을 HTML 로 렌더링하고 {@link Safelist} 로 정제한다. 작성/수정 시점에 한 번만 호출되며
+ * 결과는 본문 해시와 함께 Post 에 저장된다.
+ */
+@Component
+public class MarkdownRenderer {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+    // 코드 블록의 언어 표시(class="language-xxx")는 유지한다
+    private static final Safelist SAFELIST = Safelist.relaxed().addAttributes("code", "class");
+
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        String html = RENDERER.render(PARSER.parse(markdown));
+        return Jsoup.clean(html, "", SAFELIST, new OutputSettings().prettyPrint(false));
+    }
+
+    /**
+     * 렌더링 결과를 재사용할 수 있는지 판단하기 위한 본문 해시 (SHA-256, hex)
+     */
+    public static String hash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(
+                (markdown != null ? markdown : "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -7,17 +7,29 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_post_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_post_author_id_id", columnList = "author_id, id")})
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
 
@@ -31,6 +43,13 @@ public class Post {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 렌더링/정제된 본문 HTML 과 렌더링에 사용한 본문 해시
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String contentHtml;
+
+    @Column(length = 64)
+    private String contentHash;
+
     @Column(nullable = false)
     private Long authorId;
 
@@ -49,56 +68,51 @@ public class Post {
     private int commentCount;
     private int likeCount;
 
+    // 본문 단어 수 (목록의 읽는 시간 표시용)
+    private int wordCount;
+
+    // Set 이므로 수정 시 Hibernate 가 추가/삭제된 태그 행만 반영한다 (List 는 전체 삭제 후 재삽입)
+    // 순서 컬럼이 없으므로 태그는 작성자가 입력한 순서가 아니라 id(처음 만들어진) 순으로 읽힌다
     @ElementCollection
     @CollectionTable(name = "post_hashtags", joinColumns = @JoinColumn(name = "post_id"))
     @Column(name = "hashtag_id")
-    private List<Long> hashtagIds = new ArrayList<>();
+    @OrderBy
+    private Set<Long> hashtagIds = new LinkedHashSet<>();
 
     private Long categoryId;
 
     @Builder
     public Post(String title, String content, Long authorId, String thumbnailUrl,
         LocalDateTime createdAt, LocalDateTime updatedAt, List<Long> commentIds,
-        List<Long> hashtagIds, int viewCount, int likeCount, Long categoryId) {
+        Collection<Long> hashtagIds, int viewCount, int likeCount, Long categoryId) {
         this.title = title;
         this.content = content;
         this.authorId = authorId;
         this.thumbnailUrl = thumbnailUrl;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.commentIds = commentIds != null ? commentIds : new ArrayList<>();
-        this.hashtagIds = hashtagIds != null ? hashtagIds : new ArrayList<>();
+        this.hashtagIds = hashtagIds != null ? new LinkedHashSet<>(hashtagIds)
+            : new LinkedHashSet<>();
         this.viewCount = viewCount;
         this.likeCount = likeCount;
         this.categoryId = categoryId;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    public void incrementCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decrementCommentCount() {
-        this.commentCount--;
-    }
-
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decrementLikeCount() {
-        this.likeCount--;
-    }
-
-    public void updatePost(String title, String content, String thumbnailUrl, List<Long> hashtagIds,
-        Long categoryId) {
+    public void updatePost(String title, String content, String thumbnailUrl,
+        Collection<Long> hashtagIds, Long categoryId) {
         this.title = title;
         this.content = content;
-        this.hashtagIds = hashtagIds;
+        // 컬렉션을 교체하지 않고 바뀐 태그만 빼고 더한다
+        this.hashtagIds.retainAll(new HashSet<>(hashtagIds));
+        this.hashtagIds.addAll(hashtagIds);
         this.thumbnailUrl = thumbnailUrl;
         this.updatedAt = LocalDateTime.now(); // 수정 시간 업데이트
         this.categoryId = categoryId;
     }
+
+    public void updateRenderedContent(String contentHash, String contentHtml, int wordCount) {
+        this.contentHash = contentHash;
+        this.contentHtml = contentHtml;
+        this.wordCount = wordCount;
+    }
 }
\ No newline at end of file
@@ -1,16 +1,78 @@
 package com.jygoh.whoever.domain.post.repository;
 
 import com.jygoh.whoever.domain.post.model.Post;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findAllByAuthorId(Long authorId);
 
-    List<Post> findByTitleContaining(String keyword);
-
     List<Post> findByAuthorIdAndTitleContaining(Long authorId, String keyword);
 
     List<Post> findByIdIn(List<Long> postIds);
+
+    @Query("SELECT p.viewCount FROM Post p WHERE p.id = :id")
+    Optional<Integer> findViewCountById(@Param("id") Long id);
+
+    @Query("SELECT p.id FROM Post p WHERE p.authorId = :authorId")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
+
+    // 최신순(id 내림차순) 글 id. (author_id, id) 인덱스 범위만 읽는다
+    @Query("SELECT p.id FROM Post p WHERE p.authorId = :authorId AND p.id < :beforeId "
+        + "ORDER BY p.id DESC")
+    List<Long> findIdsByAuthorIdBefore(@Param("authorId") Long authorId,
+        @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 주어진 글 중 작성자의 글 (언팔로우 시 타임라인에 든 글만 확인한다)
+    @Query("SELECT p.id FROM Post p WHERE p.authorId = :authorId AND p.id IN :ids")
+    List<Long> findIdsByAuthorIdAndIdIn(@Param("authorId") Long authorId,
+        @Param("ids") Collection<Long> ids);
+
+    // 회원이 팔로우하는 작성자들의 최신 글 id (만료된 타임라인을 다시 채울 때)
+    @Query("SELECT p.id FROM Post p WHERE p.authorId IN "
+        + "(SELECT f.id.followeeId FROM Follow f WHERE f.id.followerId = :memberId) "
+        + "ORDER BY p.id DESC")
+    List<Long> findIdsByFolloweesOf(@Param("memberId") Long memberId, Pageable pageable);
+
+    String SUMMARY_SELECT = "SELECT p.id AS id, p.title AS title, p.thumbnailUrl AS thumbnailUrl, "
+        + "p.authorId AS authorId, p.createdAt AS createdAt, p.wordCount AS wordCount "
+        + "FROM Post p ";
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findSummaries(Pageable pageable);
+
+    // 키셋 페이지네이션: List 반환이므로 COUNT 쿼리가 실행되지 않는다
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findLatest(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.createdAt < :createdAt "
+        + "OR (p.createdAt = :createdAt AND p.id < :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.authorId = :authorId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findSummariesByAuthorId(@Param("authorId") Long authorId);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content FROM Post p "
+        + "WHERE p.id > :afterId ORDER BY p.id")
+    List<PostText> findTextsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 엔티티를 읽지 않고 DB 에서 바로 증감한다 (동시 요청 간 갱신 유실 방지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
 }
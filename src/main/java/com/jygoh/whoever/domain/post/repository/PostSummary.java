@@ -0,0 +1,21 @@
+package com.jygoh.whoever.domain.post.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 프로젝션. content(TEXT) 와 댓글/해시태그 컬렉션은 조회하지 않는다.
+ */
+public interface PostSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getThumbnailUrl();
+
+    Long getAuthorId();
+
+    LocalDateTime getCreatedAt();
+
+    int getWordCount();
+}
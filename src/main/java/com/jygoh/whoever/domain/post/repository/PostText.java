@@ -0,0 +1,13 @@
+package com.jygoh.whoever.domain.post.repository;
+
+/**
+ * 검색 색인 재구축용 프로젝션
+ */
+public interface PostText {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+}
@@ -0,0 +1,100 @@
+package com.jygoh.whoever.domain.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 글자 단위 n-gram 토크나이저. 공백/기호로 나눈 단어마다 2-gram 과 3-gram 을 만들며, 형태소 분석 없이도
+ * 한국어 부분 문자열 검색이 되도록 한다. n-gram 은 문자(char) 를 16비트씩 묶어 long 하나로 표현한다.
+ * <p>
+ * 한 글자 단어는 2-gram 을 만들 수 없으므로 1-gram 으로 남긴다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * @return n-gram -> 출현 횟수
+     */
+    public static Map<Long, Integer> termFrequencies(String text, int maxLength) {
+        Map<Long, Integer> frequencies = new HashMap<>();
+        for (String word : words(text, maxLength)) {
+            forEachGram(word, gram -> frequencies.merge(gram, 1, Integer::sum));
+        }
+        return frequencies;
+    }
+
+    /**
+     * 질의의 서로 다른 n-gram 목록
+     */
+    public static List<Long> queryGrams(String query) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (String word : words(query, Integer.MAX_VALUE)) {
+            forEachGram(word, grams::add);
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * 정규화(NFKC, 소문자)한 뒤 글자/숫자가 이어진 구간을 단어로 나눈다.
+     */
+    public static List<String> words(String text, int maxLength) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String normalized = normalize(text.length() > maxLength ? text.substring(0, maxLength)
+            : text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length()
+                && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void forEachGram(String word, GramConsumer consumer) {
+        if (word.length() == 1) {
+            consumer.accept(pack(word, 0, 1));
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            consumer.accept(pack(word, i, 2));
+            if (i + 3 <= word.length()) {
+                consumer.accept(pack(word, i, 3));
+            }
+        }
+    }
+
+    // 상위 16비트에 길이, 나머지에 문자를 담는다
+    private static long pack(String word, int offset, int length) {
+        long gram = length;
+        for (int i = 0; i < length; i++) {
+            gram = (gram << 16) | word.charAt(offset + i);
+        }
+        return gram << (16 * (3 - length));
+    }
+
+    @FunctionalInterface
+    private interface GramConsumer {
+
+        void accept(long gram);
+    }
+}
@@ -0,0 +1,217 @@
+package com.jygoh.whoever.domain.post.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문의 n-gram 역색인. 내부 문서 번호(int)는 색인할 때마다 새로 발급하므로 게시 목록은 항상
+ * 뒤에 덧붙이기만 하면 되고, 수정/삭제된 이전 번호는 삭제 표시 후 {@link #compact()} 에서 걸러 낸다.
+ * <p>
+ * 점수는 BM25 이며, 제목의 n-gram 은 {@link #TITLE_WEIGHT} 배로 센다. 여러 스레드에서 읽고 쓸 수 있다.
+ */
+public class PostSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    // 질의 n-gram 중 이 비율 이상을 포함한 문서만 결과에 넣는다
+    private static final float MIN_MATCH_RATIO = 0.5f;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByPostId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final int maxContentLength;
+    private long[] postIdByDoc = new long[1024];
+    private int[] docLength = new int[1024];
+    private int nextDoc;
+    private int liveDocs;
+    private int deletedSinceCompaction;
+    private long totalLength;
+
+    public PostSearchIndex(int maxContentLength) {
+        this.maxContentLength = maxContentLength;
+    }
+
+    /**
+     * 글을 색인한다. 이미 색인된 글이면 이전 색인을 대체한다.
+     */
+    public void index(long postId, String title, String content) {
+        // 토큰화는 잠금 밖에서 한다
+        Map<Long, Integer> frequencies = NGramTokenizer.termFrequencies(content,
+            maxContentLength);
+        NGramTokenizer.termFrequencies(title, Integer.MAX_VALUE).forEach(
+            (gram, frequency) -> frequencies.merge(gram, frequency * TITLE_WEIGHT, Integer::sum));
+        int length = 0;
+        for (int frequency : frequencies.values()) {
+            length += frequency;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            int doc = nextDoc++;
+            ensureCapacity(doc);
+            postIdByDoc[doc] = postId;
+            docLength[doc] = length;
+            docByPostId.put(postId, doc);
+            liveDocs++;
+            totalLength += length;
+            for (Map.Entry<Long, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), gram -> new PostingList())
+                    .add(doc, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 점수 내림차순 상위 {@code limit} 건
+     */
+    public List<SearchHit> search(String query, int limit) {
+        List<Long> grams = NGramTokenizer.queryGrams(query);
+        if (grams.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        int minMatches = Math.max(1, (int) Math.ceil(grams.size() * MIN_MATCH_RATIO));
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return new ArrayList<>();
+            }
+            float averageLength = (float) totalLength / liveDocs;
+            // 문서 번호 -> {점수, 일치한 n-gram 수}
+            Map<Integer, float[]> accumulators = new HashMap<>();
+            for (Long gram : grams) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    continue;
+                }
+                // 압축 전까지는 삭제된 문서도 df 에 포함되므로 근사값이다
+                int df = Math.min(list.size(), liveDocs);
+                float idf = (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+                list.forEach((doc, frequency) -> {
+                    if (deleted.get(doc)) {
+                        return;
+                    }
+                    float norm = K1 * (1 - B + B * docLength[doc] / averageLength);
+                    float score = idf * frequency * (K1 + 1) / (frequency + norm);
+                    float[] accumulator = accumulators.computeIfAbsent(doc, d -> new float[2]);
+                    accumulator[0] += score;
+                    accumulator[1]++;
+                });
+            }
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(
+                Comparator.comparingDouble(SearchHit::getScore));
+            for (Map.Entry<Integer, float[]> entry : accumulators.entrySet()) {
+                float[] accumulator = entry.getValue();
+                if (accumulator[1] < minMatches) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(new SearchHit(postIdByDoc[entry.getKey()], accumulator[0]));
+                } else if (accumulator[0] > top.peek().getScore()) {
+                    top.poll();
+                    top.add(new SearchHit(postIdByDoc[entry.getKey()], accumulator[0]));
+                }
+            }
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막 압축 이후 삭제/대체된 문서가 살아 있는 문서의 1/4 을 넘으면 압축이 필요하다.
+     */
+    public boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return deletedSinceCompaction > 1000 && deletedSinceCompaction > liveDocs / 4;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시 목록에서 삭제된 문서를 걸러 내 메모리를 회수하고 df 를 정확하게 만든다.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            Iterator<Map.Entry<Long, PostingList>> iterator = postings.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, PostingList> entry = iterator.next();
+                PostingList compacted = entry.getValue().without(deleted);
+                if (compacted.size() == 0) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(compacted);
+                }
+            }
+            deletedSinceCompaction = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += list.memoryBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long postId) {
+        Integer doc = docByPostId.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        liveDocs--;
+        totalLength -= docLength[doc];
+        deletedSinceCompaction++;
+    }
+
+    private void ensureCapacity(int doc) {
+        if (doc >= postIdByDoc.length) {
+            int capacity = Math.max(doc + 1, postIdByDoc.length + (postIdByDoc.length >> 1));
+            postIdByDoc = Arrays.copyOf(postIdByDoc, capacity);
+            docLength = Arrays.copyOf(docLength, capacity);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.jygoh.whoever.domain.post.search;
+
+import com.jygoh.whoever.domain.member.service.AuthorNicknameResolver;
+import com.jygoh.whoever.domain.post.dto.PostSearchResponseDto;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent;
+import com.jygoh.whoever.domain.post.markdown.MarkdownAnalyzer;
+import com.jygoh.whoever.domain.post.model.Post;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import com.jygoh.whoever.domain.post.repository.PostText;
+import com.jygoh.whoever.global.pagination.CursorPage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로세스 내부 {@link PostSearchIndex} 를 관리하고 검색 결과를 조립한다.
+ * <p>
+ * 시작 시 DB 에서 색인을 만들고, 이후에는 {@link PostChangedEvent} 로 증분 갱신한다. 다른 노드에서 발생한
+ * 변경도 이벤트로 전달받으며, 전달 중 유실된 변경은 주기적인 재구축(post.search.rebuild-cron)으로 맞춘다.
+ * 재구축 중 들어온 변경은 모아 두었다가 새 색인에 다시 적용한 뒤 교체한다.
+ * <p>
+ * 상위 k 개를 힙으로 고르므로 깊은 페이지는 허용하지 않는다 (offset 최대 {@value #MAX_OFFSET}).
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+
+    public static final int MAX_OFFSET = 1000;
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final MarkdownAnalyzer markdownAnalyzer;
+    private final AuthorNicknameResolver authorNicknameResolver;
+    private final int maxContentLength;
+    private final Object rebuildLock = new Object();
+    private volatile PostSearchIndex index;
+    private List<PostChangedEvent> changesDuringRebuild; // 재구축 중이 아니면 null
+
+    public PostSearchService(PostRepository postRepository, MarkdownAnalyzer markdownAnalyzer,
+        AuthorNicknameResolver authorNicknameResolver, MeterRegistry meterRegistry,
+        @Value("${post.search.max-content-length:10000}") int maxContentLength) {
+        this.postRepository = postRepository;
+        this.markdownAnalyzer = markdownAnalyzer;
+        this.authorNicknameResolver = authorNicknameResolver;
+        this.maxContentLength = maxContentLength;
+        this.index = new PostSearchIndex(maxContentLength);
+        Gauge.builder("post.search.documents", this, service -> service.index.size())
+            .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostSearchResponseDto> search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            return new ArrayList<>();
+        }
+        int limit = CursorPage.clampSize(size);
+        if (page < 0 || (long) page * limit > MAX_OFFSET) {
+            throw new IllegalArgumentException("Search page is out of range");
+        }
+        int offset = page * limit;
+        List<SearchHit> hits = index.search(query, offset + limit);
+        if (hits.size() <= offset) {
+            return new ArrayList<>();
+        }
+        hits = hits.subList(offset, hits.size());
+        // 결과 페이지의 글과 작성자 닉네임은 각각 한 번에 조회한다
+        Map<Long, Post> posts = postRepository.findByIdIn(
+                hits.stream().map(SearchHit::getPostId).collect(Collectors.toList())).stream()
+            .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(
+            posts.values().stream().map(Post::getAuthorId).collect(Collectors.toList()));
+        // 색인에만 남아 있는(다른 노드에서 삭제된) 글은 건너뛴다
+        return hits.stream().filter(hit -> posts.containsKey(hit.getPostId())).map(hit -> {
+            Post post = posts.get(hit.getPostId());
+            String text = markdownAnalyzer.extractPlainText(post.getContent());
+            return PostSearchResponseDto.builder().id(post.getId()).title(post.getTitle())
+                .authorNickname(nicknames.get(post.getAuthorId()))
+                .thumbnailUrl(post.getThumbnailUrl()).createdAt(post.getCreatedAt())
+                .snippet(SnippetHighlighter.highlight(text, query)).score(hit.getScore())
+                .build();
+        }).collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        }
+        apply(index, event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        Thread thread = new Thread(this::rebuild, "post-search-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(cron = "${post.search.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                return; // 이미 재구축 중
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+        PostSearchIndex rebuilt = new PostSearchIndex(maxContentLength);
+        long startedAt = System.currentTimeMillis();
+        try {
+            long afterId = 0;
+            List<PostText> texts;
+            do {
+                texts = postRepository.findTextsAfter(afterId,
+                    PageRequest.ofSize(REBUILD_PAGE_SIZE));
+                for (PostText text : texts) {
+                    rebuilt.index(text.getId(), text.getTitle(),
+                        markdownAnalyzer.extractPlainText(text.getContent()));
+                    afterId = text.getId();
+                }
+            } while (texts.size() == REBUILD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild post search index", e);
+            synchronized (rebuildLock) {
+                changesDuringRebuild = null;
+            }
+            return;
+        }
+        synchronized (rebuildLock) {
+            changesDuringRebuild.forEach(event -> apply(rebuilt, event));
+            changesDuringRebuild = null;
+            index = rebuilt;
+        }
+        log.info("Rebuilt post search index: {} posts in {} ms", rebuilt.size(),
+            System.currentTimeMillis() - startedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${post.search.compaction-check-ms:60000}")
+    public void compactIfNeeded() {
+        PostSearchIndex current = index;
+        if (current.needsCompaction()) {
+            current.compact();
+        }
+    }
+
+    private void apply(PostSearchIndex target, PostChangedEvent event) {
+        if (event.isDeleted()) {
+            target.remove(event.getPostId());
+        } else {
+            target.index(event.getPostId(), event.getTitle(),
+                markdownAnalyzer.extractPlainText(event.getContent()));
+        }
+    }
+}
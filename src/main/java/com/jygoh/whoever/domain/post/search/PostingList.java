@@ -0,0 +1,96 @@
+package com.jygoh.whoever.domain.post.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 정렬된 (문서 번호, 출현 횟수) 목록을 byte[] 에 압축해 담는다. 문서 번호는 이전 번호와의 차이를,
+ * 출현 횟수는 그대로 가변 길이 정수(varint)로 기록한다. 문서 번호는 증가하는 순서로만 추가된다.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private int lastDoc = -1;
+
+    void add(int doc, int frequency) {
+        ensureCapacity(10);
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int doc = -1;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc += delta;
+            consumer.accept(doc, frequency);
+        }
+    }
+
+    /**
+     * 삭제된 문서를 걸러 낸 새 목록
+     */
+    PostingList without(BitSet deleted) {
+        PostingList compacted = new PostingList();
+        forEach((doc, frequency) -> {
+            if (!deleted.get(doc)) {
+                compacted.add(doc, frequency);
+            }
+        });
+        compacted.trim();
+        return compacted;
+    }
+
+    void trim() {
+        if (data.length > length) {
+            data = Arrays.copyOf(data, Math.max(length, 1));
+        }
+    }
+
+    long memoryBytes() {
+        return data.length;
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length + (data.length >> 1), length + extra));
+        }
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+
+        void accept(int doc, int frequency);
+    }
+}
@@ -0,0 +1,15 @@
+package com.jygoh.whoever.domain.post.search;
+
+import lombok.Getter;
+
+@Getter
+public class SearchHit {
+
+    private final long postId;
+    private final float score;
+
+    public SearchHit(long postId, float score) {
+        this.postId = postId;
+        this.score = score;
+    }
+}
@@ -0,0 +1,68 @@
+package com.jygoh.whoever.domain.post.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.jsoup.nodes.Entities;
+
+/**
+ * 검색어가 처음 나온 위치 주변을 잘라 검색어를 {@code <em>} 으로 감싼다. 나머지 텍스트는 HTML 이스케이프한다.
+ */
+public final class SnippetHighlighter {
+
+    private static final int SNIPPET_LENGTH = 160;
+
+    private SnippetHighlighter() {
+    }
+
+    public static String highlight(String text, String query) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String normalizedText = NGramTokenizer.normalize(text);
+        // 정규화로 길이가 바뀌는 드문 경우에는 원문 위치를 맞출 수 없으므로 정규화된 텍스트를 보여 준다
+        String source = normalizedText.length() == text.length() ? text : normalizedText;
+        List<String> words = new ArrayList<>(NGramTokenizer.words(query, Integer.MAX_VALUE));
+        words.sort(Comparator.comparingInt(String::length).reversed());
+
+        int first = -1;
+        for (String word : words) {
+            int position = normalizedText.indexOf(word);
+            if (position >= 0 && (first < 0 || position < first)) {
+                first = position;
+            }
+        }
+        int start = first < 0 ? 0 : Math.max(0, first - SNIPPET_LENGTH / 4);
+        int end = Math.min(source.length(), start + SNIPPET_LENGTH);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("…");
+        }
+        int position = start;
+        while (position < end) {
+            int matchStart = -1;
+            int matchLength = 0;
+            for (String word : words) {
+                int found = normalizedText.indexOf(word, position);
+                if (found >= 0 && found < end && (matchStart < 0 || found < matchStart)) {
+                    matchStart = found;
+                    matchLength = word.length();
+                }
+            }
+            if (matchStart < 0) {
+                snippet.append(Entities.escape(source.substring(position, end)));
+                break;
+            }
+            int matchEnd = Math.min(end, matchStart + matchLength);
+            snippet.append(Entities.escape(source.substring(position, matchStart)))
+                .append("<em>").append(Entities.escape(source.substring(matchStart, matchEnd)))
+                .append("</em>");
+            position = matchEnd;
+        }
+        if (end < source.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+}
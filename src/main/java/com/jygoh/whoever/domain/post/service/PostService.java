@@ -4,7 +4,9 @@ import com.jygoh.whoever.domain.post.dto.PostCreateRequestDto;
 import com.jygoh.whoever.domain.post.dto.PostDetailResponseDto;
 import com.jygoh.whoever.domain.post.dto.PostListResponseDto;
 import com.jygoh.whoever.domain.post.dto.PostUpdateRequestDto;
+import com.jygoh.whoever.global.pagination.CursorPage;
 import java.util.List;
+import java.util.Map;
 
 public interface PostService {
 
@@ -14,7 +16,18 @@ public interface PostService {
 
     void deletePost(Long postId, String token);
 
-    List<PostListResponseDto> getAllPosts(int page, int size);
+    List<PostListResponseDto> getAllPosts(int page, int size, String token);
+
+    CursorPage<PostListResponseDto> getAllPosts(String cursor, int size, String token);
+
+    CursorPage<PostListResponseDto> getPostsByHashtags(String query, String cursor, int size,
+        String token);
+
+    CursorPage<PostListResponseDto> getFeed(String cursor, int size, String token);
+
+    List<PostListResponseDto> getTrendingPosts(String window, int size, String token);
+
+    Map<Long, Boolean> getLikeStates(List<Long> postIds, String token);
 
     PostDetailResponseDto getPostDetail(Long postId, String token);
 
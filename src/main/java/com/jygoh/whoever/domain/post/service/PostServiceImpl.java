@@ -2,40 +2,57 @@ package com.jygoh.whoever.domain.post.service;
 
 import com.jygoh.whoever.domain.category.CategoryService;
 import com.jygoh.whoever.domain.comment.dto.CommentDto;
+import com.jygoh.whoever.domain.comment.model.Comment;
 import com.jygoh.whoever.domain.comment.repository.CommentRepository;
+import com.jygoh.whoever.domain.feed.service.FeedService;
 import com.jygoh.whoever.domain.hashtag.dto.HashtagDto;
+import com.jygoh.whoever.domain.hashtag.index.HashtagIndex;
 import com.jygoh.whoever.domain.hashtag.model.Hashtag;
 import com.jygoh.whoever.domain.hashtag.repository.HashtagRepository;
 import com.jygoh.whoever.domain.hashtag.service.HashtagService;
 import com.jygoh.whoever.domain.member.entity.Member;
 import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.member.service.AuthorNicknameResolver;
+import com.jygoh.whoever.domain.post.cache.PostDetailCache;
 import com.jygoh.whoever.domain.post.dto.PostCreateRequestDto;
 import com.jygoh.whoever.domain.post.dto.PostDetailResponseDto;
 import com.jygoh.whoever.domain.post.dto.PostListResponseDto;
 import com.jygoh.whoever.domain.post.dto.PostUpdateRequestDto;
-import com.jygoh.whoever.domain.post.like.PostLike;
-import com.jygoh.whoever.domain.post.like.PostLikeRepository;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent.Type;
+import com.jygoh.whoever.domain.post.like.service.LikeStore;
+import com.jygoh.whoever.domain.post.like.service.LikeToggleResult;
+import com.jygoh.whoever.domain.post.markdown.MarkdownAnalysis;
+import com.jygoh.whoever.domain.post.markdown.MarkdownAnalyzer;
+import com.jygoh.whoever.domain.post.markdown.MarkdownRenderer;
 import com.jygoh.whoever.domain.post.model.Post;
 import com.jygoh.whoever.domain.post.repository.PostRepository;
-import com.jygoh.whoever.domain.post.view.model.View;
-import com.jygoh.whoever.domain.post.view.repository.ViewRepository;
+import com.jygoh.whoever.domain.post.repository.PostSummary;
+import com.jygoh.whoever.domain.post.trending.TrendingStore;
+import com.jygoh.whoever.domain.post.trending.TrendingWindow;
+import com.jygoh.whoever.domain.post.view.service.ViewCountBuffer;
+import com.jygoh.whoever.domain.post.view.service.ViewDeduplicator;
+import com.jygoh.whoever.domain.post.view.service.ViewEvent;
+import com.jygoh.whoever.domain.post.view.service.ViewEventQueue;
+import com.jygoh.whoever.global.cache.SingleFlight;
+import com.jygoh.whoever.global.pagination.CursorPage;
+import com.jygoh.whoever.global.pagination.TimeCursor;
 import com.jygoh.whoever.global.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.commonmark.node.Node;
-import org.commonmark.parser.Parser;
-import org.commonmark.renderer.html.HtmlRenderer;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,46 +61,60 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class PostServiceImpl implements PostService {
 
-    private final static long VIEW_EXPIRATION_TIME = 60 * 5;
     private final PostRepository postRepository;
     private final HashtagService hashtagService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
     private final MemberRepository memberRepository;
-    private final ViewRepository viewRepository;
-    private final PostLikeRepository postLikeRepository;
     private final CommentRepository commentRepository;
     private final HashtagRepository hashtagRepository;
     private final CategoryService categoryService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewDeduplicator viewDeduplicator;
+    private final ViewEventQueue viewEventQueue;
+    private final AuthorNicknameResolver authorNicknameResolver;
+    private final PostDetailCache postDetailCache;
+    private final MarkdownAnalyzer markdownAnalyzer;
+    private final MarkdownRenderer markdownRenderer;
+    private final LikeStore likeStore;
+    private final HashtagIndex hashtagIndex;
+    private final TrendingStore trendingStore;
+    private final FeedService feedService;
+    private final ApplicationEventPublisher eventPublisher;
+    // 같은 목록 페이지를 동시에 요청하면 한 번만 조회한다
+    private final SingleFlight<String, List<PostListResponseDto>> postPageFlight;
+    private final SingleFlight<String, CursorPage<PostListResponseDto>> postCursorFlight;
 
     public PostServiceImpl(PostRepository postRepository, HashtagService hashtagService,
-        RedisTemplate<String, String> redisTemplate, JwtTokenProvider jwtTokenProvider,
-        MemberRepository memberRepository, ViewRepository viewRepository,
-        PostLikeRepository postLikeRepository, CommentRepository commentRepository,
-        HashtagRepository hashtagRepository, CategoryService categoryService) {
+        JwtTokenProvider jwtTokenProvider, MemberRepository memberRepository,
+        CommentRepository commentRepository, HashtagRepository hashtagRepository,
+        CategoryService categoryService,
+        ViewCountBuffer viewCountBuffer, ViewDeduplicator viewDeduplicator,
+        ViewEventQueue viewEventQueue, AuthorNicknameResolver authorNicknameResolver,
+        PostDetailCache postDetailCache, MarkdownAnalyzer markdownAnalyzer,
+        MarkdownRenderer markdownRenderer, LikeStore likeStore, HashtagIndex hashtagIndex,
+        TrendingStore trendingStore, FeedService feedService,
+        ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
         this.postRepository = postRepository;
         this.hashtagService = hashtagService;
-        this.redisTemplate = redisTemplate;
         this.jwtTokenProvider = jwtTokenProvider;
         this.memberRepository = memberRepository;
-        this.viewRepository = viewRepository;
-        this.postLikeRepository = postLikeRepository;
         this.commentRepository = commentRepository;
         this.hashtagRepository = hashtagRepository;
         this.categoryService = categoryService;
-    }
-
-    private String extractThumbnailUrl(String content) {
-        Parser parser = Parser.builder().build();
-        Node document = parser.parse(content);
-        HtmlRenderer renderer = HtmlRenderer.builder().build();
-        String htmlContent = renderer.render(document);
-        Document doc = Jsoup.parse(htmlContent);
-        Element imgaElement = doc.select("img").first();
-        if (imgaElement != null) {
-            return imgaElement.attr("src");
-        }
-        return null;
+        this.viewCountBuffer = viewCountBuffer;
+        this.viewDeduplicator = viewDeduplicator;
+        this.viewEventQueue = viewEventQueue;
+        this.authorNicknameResolver = authorNicknameResolver;
+        this.postDetailCache = postDetailCache;
+        this.markdownAnalyzer = markdownAnalyzer;
+        this.markdownRenderer = markdownRenderer;
+        this.likeStore = likeStore;
+        this.hashtagIndex = hashtagIndex;
+        this.trendingStore = trendingStore;
+        this.feedService = feedService;
+        this.eventPublisher = eventPublisher;
+        this.postPageFlight = new SingleFlight<>("postPage", meterRegistry);
+        this.postCursorFlight = new SingleFlight<>("postCursor", meterRegistry);
     }
 
     @Override
@@ -91,15 +122,20 @@ public class PostServiceImpl implements PostService {
         Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
         Member author = memberRepository.findById(memberId)
             .orElseThrow(() -> new IllegalArgumentException("Invalid member ID"));
-        List<Hashtag> hashtags = hashtagService.findOrCreateHashtags(requestDto.getHashtagNames());
-        List<Long> hashtagIds = hashtags.stream().map(Hashtag::getId).collect(Collectors.toList());
+        List<Long> hashtagIds = hashtagService.findOrCreateHashtagIds(
+            requestDto.getHashtagNames());
         Long categoryId = requestDto.getCategoryId() != null ? requestDto.getCategoryId()
             : categoryService.createOrUpdateDefaultCategory(memberId);
-        // 썸네일 처리
-        String thumbnailUrl = extractThumbnailUrl(requestDto.getContent());
+        // 썸네일과 단어 수는 한 번의 AST 순회로 구한다
+        MarkdownAnalysis analysis = markdownAnalyzer.analyze(requestDto.getContent());
         // Post 생성
-        Post post = requestDto.toEntity(author.getId(), thumbnailUrl, hashtagIds, categoryId);
+        Post post = requestDto.toEntity(author.getId(), analysis.getThumbnailUrl(), hashtagIds,
+            categoryId);
+        post.updateRenderedContent(MarkdownRenderer.hash(requestDto.getContent()),
+            markdownRenderer.render(requestDto.getContent()), analysis.getWordCount());
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(Type.CREATED, post));
+        categoryService.changePostCount(categoryId, 1);
         return post.getId();
     }
 
@@ -111,14 +147,29 @@ public class PostServiceImpl implements PostService {
         if (!post.getAuthorId().equals(memberId)) {
             throw new AccessDeniedException("You do not have permission to edit this post.");
         }
-        List<Hashtag> hashtags = hashtagService.findOrCreateHashtags(requestDto.getHashtagNames());
-        List<Long> hashtagIds = hashtags.stream().map(Hashtag::getId).collect(Collectors.toList());
-        String thumbnailUrl = extractThumbnailUrl(post.getContent());
+        List<Long> hashtagIds = hashtagService.findOrCreateHashtagIds(
+            requestDto.getHashtagNames());
+        // 본문이 바뀐 경우에만 본문 분석과 HTML 렌더링을 다시 한다
+        String thumbnailUrl = post.getThumbnailUrl();
+        String contentHash = MarkdownRenderer.hash(requestDto.getContent());
+        if (!contentHash.equals(post.getContentHash())) {
+            MarkdownAnalysis analysis = markdownAnalyzer.analyze(requestDto.getContent());
+            thumbnailUrl = analysis.getThumbnailUrl();
+            post.updateRenderedContent(contentHash,
+                markdownRenderer.render(requestDto.getContent()), analysis.getWordCount());
+        }
         Long categoryId = requestDto.getCategoryId() != null ? requestDto.getCategoryId()
             : categoryService.createOrUpdateDefaultCategory(memberId);
+        if (!categoryId.equals(post.getCategoryId())) {
+            categoryService.changePostCount(post.getCategoryId(), -1);
+            categoryService.changePostCount(categoryId, 1);
+        }
+        List<Long> previousHashtagIds = new ArrayList<>(post.getHashtagIds());
         post.updatePost(requestDto.getTitle(), requestDto.getContent(), thumbnailUrl, hashtagIds,
             categoryId);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(Type.UPDATED, post, previousHashtagIds));
+        postDetailCache.evict(postId);
         return post.getId();
     }
 
@@ -131,103 +182,211 @@ public class PostServiceImpl implements PostService {
             throw new AccessDeniedException("You do not have permission to edit this post.");
         }
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(Type.DELETED, post));
+        categoryService.changePostCount(post.getCategoryId(), -1);
+        postDetailCache.evict(postId);
+        likeStore.evict(postId);
+        trendingStore.remove(postId);
     }
 
     @Override
-    public List<PostListResponseDto> getAllPosts(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Order.desc("createdAt")));
-        Page<Post> postPage = postRepository.findAll(pageable);
-        // 각 게시글의 작성자 닉네임을 조회하여 DTO로 변환
-        return postPage.stream().map(post -> {
-            // 작성자의 닉네임 조회
-            String authorNickname = memberRepository.findById(post.getAuthorId())
-                .map(Member::getNickname).orElse("Unknown");
-            // Post와 닉네임을 DTO에 전달
-            return PostListResponseDto.builder().post(post).authorNickname(authorNickname).build();
-        }).collect(Collectors.toList());
+    public List<PostListResponseDto> getAllPosts(int page, int size, String token) {
+        List<PostListResponseDto> posts = postPageFlight.load(page + ":" + size, () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(Order.desc("createdAt")));
+            Page<PostSummary> postPage = postRepository.findSummaries(pageable);
+            return toListResponse(postPage.getContent());
+        });
+        return withLikedByMe(posts, resolveMemberId(token));
     }
 
     @Override
-    public PostDetailResponseDto getPostDetail(Long postId, String token) {
-        String redisKey = "postView:" + postId;
-        Long memberId = null;
-        // 사용자 ID를 가져오는 로직을 수정하여 비로그인 사용자도 가능하게 처리
-        if (token != null && !token.isEmpty()) {
-            try {
-                memberId = jwtTokenProvider.getMemberIdFromToken(token);
-                if (memberId != null) {
-                    redisKey += ":" + memberId;
-                }
-            } catch (Exception e) {
-                // 토큰 처리 오류 시 로그 남기고 무시 (비로그인 사용자를 허용)
-                e.getMessage();
+    public CursorPage<PostListResponseDto> getAllPosts(String cursor, int size, String token) {
+        int limit = CursorPage.clampSize(size);
+        TimeCursor after = TimeCursor.decode(cursor);
+        CursorPage<PostListResponseDto> page = postCursorFlight.load(cursor + ":" + limit, () -> {
+            // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+            Pageable pageable = PageRequest.ofSize(limit + 1);
+            List<PostSummary> posts = after == null ? postRepository.findLatest(pageable)
+                : postRepository.findLatestBefore(after.getTime(), after.getId(), pageable);
+            String nextCursor = null;
+            if (posts.size() > limit) {
+                posts = posts.subList(0, limit);
+                PostSummary last = posts.get(limit - 1);
+                nextCursor = new TimeCursor(last.getCreatedAt(), last.getId()).encode();
             }
+            return new CursorPage<>(toListResponse(posts), nextCursor);
+        });
+        return new CursorPage<>(withLikedByMe(page.getItems(), resolveMemberId(token)),
+            page.getNextCursor());
+    }
+
+    @Override
+    public CursorPage<PostListResponseDto> getPostsByHashtags(String query, String cursor,
+        int size, String token) {
+        int limit = CursorPage.clampSize(size);
+        // 글 id 는 색인에서 최신순으로 고르고, 목록 정보만 DB 에서 한 번에 가져온다
+        List<Long> postIds = hashtagIndex.findPostIds(query, decodeIdCursor(cursor), limit + 1);
+        return toIdCursorPage(postIds, limit, resolveMemberId(token));
+    }
+
+    @Override
+    public CursorPage<PostListResponseDto> getFeed(String cursor, int size, String token) {
+        Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
+        int limit = CursorPage.clampSize(size);
+        List<Long> postIds = feedService.getFeedPostIds(memberId, decodeIdCursor(cursor),
+            limit + 1);
+        return toIdCursorPage(postIds, limit, memberId);
+    }
+
+    // 최신순 글 id 목록(limit + 1 개까지)으로 페이지를 만든다. 커서는 마지막 글 id
+    private CursorPage<PostListResponseDto> toIdCursorPage(List<Long> postIds, int limit,
+        Long memberId) {
+        String nextCursor = null;
+        if (postIds.size() > limit) {
+            postIds = postIds.subList(0, limit);
+            nextCursor = String.valueOf(postIds.get(limit - 1));
+        }
+        return new CursorPage<>(withLikedByMe(toListResponse(findSummariesInOrder(postIds)),
+            memberId), nextCursor);
+    }
+
+    private static Long decodeIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @Override
+    public List<PostListResponseDto> getTrendingPosts(String window, int size, String token) {
+        // 순위는 ZREVRANGE 한 번, 목록 정보는 id 로 한 번에 조회
+        List<Long> postIds = trendingStore.top(TrendingWindow.from(window),
+            CursorPage.clampSize(size));
+        return withLikedByMe(toListResponse(findSummariesInOrder(postIds)),
+            resolveMemberId(token));
+    }
+
+    // 주어진 id 순서대로 요약을 반환한다 (그사이 삭제된 글은 뺀다)
+    private List<PostSummary> findSummariesInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(postIds).stream()
+            .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        return postIds.stream().map(summaries::get).filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> getLikeStates(List<Long> postIds, String token) {
+        if (postIds.size() > CursorPage.MAX_SIZE) {
+            throw new IllegalArgumentException(
+                "Too many post IDs (max " + CursorPage.MAX_SIZE + ")");
+        }
+        Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
+        return likeStore.areLiked(postIds, memberId);
+    }
+
+    // 목록 응답은 사용자 간에 공유되므로 사본에 좋아요 여부를 채운다 (페이지당 한 번 조회)
+    private List<PostListResponseDto> withLikedByMe(List<PostListResponseDto> posts,
+        Long memberId) {
+        if (memberId == null || posts.isEmpty()) {
+            return posts;
+        }
+        Map<Long, Boolean> liked = likeStore.areLiked(
+            posts.stream().map(PostListResponseDto::getId).collect(Collectors.toList()), memberId);
+        return posts.stream().map(post -> post.withLikedByMe(liked.get(post.getId())))
+            .collect(Collectors.toList());
+    }
+
+    // 비로그인 사용자도 허용하는 조회에서 토큰이 없거나 잘못되었으면 null
+    private Long resolveMemberId(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            return jwtTokenProvider.getMemberIdFromToken(token);
+        } catch (Exception e) {
+            return null;
         }
-        // Redis에서 조회 여부 확인
-        Boolean hasViewed = redisTemplate.hasKey(redisKey);
-        // 조회한 적이 없다면 조회수를 증가시키고 Redis에 키를 추가
-        if (Boolean.FALSE.equals(hasViewed)) {
-            Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
-            // 조회수 증가
-            post.incrementViewCount();
-            postRepository.save(post);
-            // Redis에 키를 추가하고 일정 시간 후에 자동으로 만료되도록 설정
-            redisTemplate.opsForValue()
-                .set(redisKey, "true", VIEW_EXPIRATION_TIME, TimeUnit.SECONDS);
-            // 사용자 ID가 있는 경우에만 View 엔티티 처리
-            synchronized (this) {
-                if (memberId != null) {
-                    Optional<View> existingView = viewRepository.findByMemberIdAndPostId(memberId,
-                        postId);
-                    View view;
-                    if (existingView.isPresent()) {
-                        // 존재하는 경우, 업데이트
-                        view = existingView.get();
-                        view.update();
-                    } else {
-                        // 존재하지 않을 경우, 새로 생성 및 저장
-                        view = View.builder().memberId(memberId).postId(postId).build();
-                        viewRepository.save(view);
-                    }
-                }
+    }
+
+    private List<PostListResponseDto> toListResponse(List<PostSummary> posts) {
+        // 페이지의 작성자 닉네임을 한 번에 조회하여 DTO로 변환
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(
+            posts.stream().map(PostSummary::getAuthorId).collect(Collectors.toList()));
+        return posts.stream().map(
+                post -> PostListResponseDto.builder().post(post)
+                    .authorNickname(nicknames.get(post.getAuthorId())).build())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public PostDetailResponseDto getPostDetail(Long postId, String token) {
+        // 비로그인 사용자도 조회 가능
+        Long memberId = resolveMemberId(token);
+        PostDetailResponseDto detail = postDetailCache.get(postId, this::loadPostDetail);
+        // 조회 여부 확인과 조회수 증가를 한 번에 처리 (증가분은 ViewCountFlusher 가 DB 에 반영)
+        if (viewDeduplicator.recordView(postId, memberId)) {
+            trendingStore.record(postId, TrendingStore.VIEW_WEIGHT);
+            // 사용자 ID가 있는 경우에만 조회 기록 이벤트를 남김 (ViewHistoryWriter 가 배치로 저장)
+            if (memberId != null) {
+                viewEventQueue.publish(new ViewEvent(memberId, postId, LocalDateTime.now()));
             }
         }
-        // 포스트, 댓글 및 해시태그 정보를 조회
+        // 캐시된 조회수는 적재 시점 값이므로 반영 주기와 무관한 전체 조회수로 덮어쓴다
+        // 좋아요 수는 LikeStore 에 적재된 글이면 그 값을 쓴다
+        long viewCount = viewCountBuffer.getViewCount(postId,
+            () -> postRepository.findViewCountById(postId).orElse(0));
+        Long likeCount = likeStore.getLikeCount(postId);
+        return detail.withCounts((int) viewCount,
+            likeCount != null ? likeCount.intValue() : detail.getLikeCount());
+    }
+
+    private PostDetailResponseDto loadPostDetail(Long postId) {
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new IllegalArgumentException("Post not found"));
-        String authorNickname = memberRepository.findById(post.getAuthorId())
-            .map(Member::getNickname).orElse("Unknown");
-        List<CommentDto> commentDtos = commentRepository.findByPostId(postId).stream()
-            .map(comment -> new CommentDto(comment, memberRepository)).collect(Collectors.toList());
+        // 댓글 및 해시태그 정보를 조회 (작성자와 댓글 작성자 닉네임은 한 번에 조회)
+        List<Comment> comments = commentRepository.findByPostId(postId);
+        List<Long> memberIds = new ArrayList<>();
+        memberIds.add(post.getAuthorId());
+        comments.forEach(comment -> memberIds.add(comment.getAuthorId()));
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(memberIds);
+        String authorNickname = nicknames.get(post.getAuthorId());
+        List<CommentDto> commentDtos = comments.stream()
+            .map(comment -> new CommentDto(comment, nicknames.get(comment.getAuthorId())))
+            .collect(Collectors.toList());
+        // 엔티티의 태그 순서(id 순)를 그대로 유지한다
         List<HashtagDto> hashtagDtos = hashtagRepository.findAllById(post.getHashtagIds()).stream()
-            .map(HashtagDto::new).collect(Collectors.toList());
+            .sorted(Comparator.comparing(Hashtag::getId)).map(HashtagDto::new)
+            .collect(Collectors.toList());
+        // 렌더링 결과가 없는 기존 글은 조회 시 렌더링한다 (캐시에만 보관)
+        String html = post.getContentHtml() != null ? post.getContentHtml()
+            : markdownRenderer.render(post.getContent());
+        // 목차와 단어 수 (단어 수가 저장되기 전에 작성된 글도 있으므로 함께 구한다)
+        MarkdownAnalysis analysis = markdownAnalyzer.analyze(post.getContent());
         return PostDetailResponseDto.builder().id(post.getId()).title(post.getTitle())
-            .content(post.getContent()).authorNickname(authorNickname)
+            .content(post.getContent()).html(html).authorNickname(authorNickname)
             .createdAt(post.getCreatedAt()).updatedAt(post.getUpdatedAt()).comments(commentDtos)
-            .hashtags(hashtagDtos).viewCount(post.getViewCount())
-            .commentCount(post.getCommentCount()).build();
+            .hashtags(hashtagDtos).viewCount(post.getViewCount()).likeCount(post.getLikeCount())
+            .commentCount(post.getCommentCount()).wordCount(analysis.getWordCount())
+            .headings(analysis.getHeadings()).build();
     }
 
 
     @Override
     public void toggleLike(Long postId, String token) {
-        Post post = postRepository.findById(postId)
-            .orElseThrow(() -> new IllegalArgumentException("Post not found"));
         Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
-        Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndMemberId(postId,
-            memberId);
-        if (existingLike.isPresent()) {
-            // User has already liked the post, so remove the like
-            post.decrementLikeCount();
-            postRepository.save(post);
-            postLikeRepository.delete(existingLike.get());
-        } else {
-            // User has not liked the post, so add a new like
-            post.incrementLikeCount();
-            postRepository.save(post);
-            PostLike postLike = PostLike.builder().postId(postId).memberId(memberId).build();
-            postLikeRepository.save(postLike);
+        // 좋아요 상태와 좋아요 수는 LikeStore 가 원자적으로 바꾸고, DB 는 LikeReconciler 가 반영한다
+        LikeToggleResult result = likeStore.toggle(postId, memberId);
+        // 취소는 반영하지 않는다. 지금 시각 기준으로 빼면 예전에 더한 것보다 크게 빠져 점수가 음수가 된다
+        if (result.isLiked()) {
+            trendingStore.record(postId, TrendingStore.LIKE_WEIGHT);
         }
     }
 }
@@ -0,0 +1,96 @@
+package com.jygoh.whoever.domain.post.trending;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 를 사용하지 않을 때의 프로세스 내부 인기 점수. 구간별로 잠그며 계산은 {@link RedisTrendingStore} 와
+ * 같다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "false")
+public class LocalTrendingStore implements TrendingStore {
+
+    private final Map<TrendingWindow, Scores> scoresByWindow = new EnumMap<>(
+        TrendingWindow.class);
+    private final double minScore;
+    private final long maxSize;
+
+    public LocalTrendingStore(@Value("${post.trending.min-score:0.05}") double minScore,
+        @Value("${post.trending.max-size:10000}") long maxSize) {
+        this.minScore = minScore;
+        this.maxSize = maxSize;
+        long now = System.currentTimeMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            scoresByWindow.put(window, new Scores(window.getHalfLifeMillis(), now));
+        }
+    }
+
+    @Override
+    public void record(Long postId, double weight) {
+        long now = System.currentTimeMillis();
+        scoresByWindow.values().forEach(scores -> scores.add(postId, weight, now));
+    }
+
+    @Override
+    public List<Long> top(TrendingWindow window, int limit) {
+        return scoresByWindow.get(window).top(limit);
+    }
+
+    @Override
+    public void remove(Long postId) {
+        scoresByWindow.values().forEach(scores -> scores.remove(postId));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${post.trending.rescale-interval-ms:600000}")
+    public void rescale() {
+        long now = System.currentTimeMillis();
+        scoresByWindow.values().forEach(scores -> scores.rescale(now, minScore, maxSize));
+    }
+
+    private static final class Scores {
+
+        private final long halfLifeMillis;
+        private final Map<Long, Double> scoreByPost = new HashMap<>();
+        private long epoch;
+
+        private Scores(long halfLifeMillis, long epoch) {
+            this.halfLifeMillis = halfLifeMillis;
+            this.epoch = epoch;
+        }
+
+        private synchronized void add(Long postId, double weight, long now) {
+            double delta = weight * Math.pow(2, (double) (now - epoch) / halfLifeMillis);
+            scoreByPost.merge(postId, delta, Double::sum);
+        }
+
+        private synchronized List<Long> top(int limit) {
+            return scoreByPost.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(limit).map(Map.Entry::getKey).collect(Collectors.toList());
+        }
+
+        private synchronized void remove(Long postId) {
+            scoreByPost.remove(postId);
+        }
+
+        private synchronized void rescale(long now, double minScore, long maxSize) {
+            double factor = Math.pow(2, -(double) (now - epoch) / halfLifeMillis);
+            scoreByPost.replaceAll((postId, score) -> score * factor);
+            scoreByPost.values().removeIf(score -> score < minScore);
+            epoch = now;
+            if (scoreByPost.size() > maxSize) {
+                scoreByPost.keySet().retainAll(new HashSet<>(top((int) maxSize)));
+            }
+        }
+    }
+}
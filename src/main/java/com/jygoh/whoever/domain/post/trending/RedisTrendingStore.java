@@ -0,0 +1,125 @@
+package com.jygoh.whoever.domain.post.trending;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구간별 ZSET(trending:{구간}) 과 기준 시각(trending:{구간}:epoch) 을 Redis 에 둔다. 기록은 모든 구간을
+ * 스크립트 하나로 갱신하고, 상위 N 조회는 ZREVRANGE 한 번이다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisTrendingStore implements TrendingStore {
+
+    private static final String KEY_PREFIX = "trending:";
+
+    // KEYS 는 (ZSET, epoch) 쌍, ARGV 는 글 id, 가중치, 현재 시각, 구간별 반감기
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+        "local now = tonumber(ARGV[3]) "
+            + "for i = 1, #KEYS, 2 do "
+            + "local epoch = tonumber(redis.call('GET', KEYS[i + 1])) "
+            + "if not epoch then epoch = now redis.call('SET', KEYS[i + 1], ARGV[3]) end "
+            + "local halfLife = tonumber(ARGV[4 + (i - 1) / 2]) "
+            + "local delta = tonumber(ARGV[2]) * 2 ^ ((now - epoch) / halfLife) "
+            + "redis.call('ZINCRBY', KEYS[i], tostring(delta), ARGV[1]) "
+            + "end "
+            + "return 1", Long.class);
+
+    // 점수를 현재 시각 기준으로 바꾸고, 너무 작은 점수와 상한을 넘는 하위 글을 지운다
+    private static final RedisScript<Long> RESCALE_SCRIPT = new DefaultRedisScript<>(
+        "local epoch = tonumber(redis.call('GET', KEYS[2])) "
+            + "if not epoch then return 0 end "
+            + "local now = tonumber(ARGV[1]) "
+            + "local factor = 2 ^ (-(now - epoch) / tonumber(ARGV[2])) "
+            + "local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES') "
+            + "for i = 1, #entries, 2 do "
+            + "redis.call('ZADD', KEYS[1], tostring(tonumber(entries[i + 1]) * factor), "
+            + "entries[i]) "
+            + "end "
+            + "redis.call('SET', KEYS[2], ARGV[1]) "
+            + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) "
+            + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1)) "
+            + "return #entries / 2", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final double minScore;
+    private final long maxSize;
+
+    public RedisTrendingStore(RedisTemplate<String, String> redisTemplate,
+        @Value("${post.trending.min-score:0.05}") double minScore,
+        @Value("${post.trending.max-size:10000}") long maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.minScore = minScore;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void record(Long postId, double weight) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>(Arrays.asList(postId.toString(),
+            String.valueOf(weight), String.valueOf(System.currentTimeMillis())));
+        for (TrendingWindow window : TrendingWindow.values()) {
+            keys.add(scoresKey(window));
+            keys.add(epochKey(window));
+            args.add(String.valueOf(window.getHalfLifeMillis()));
+        }
+        try {
+            redisTemplate.execute(RECORD_SCRIPT, keys, args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Failed to record trending score for post {}", postId, e);
+        }
+    }
+
+    @Override
+    public List<Long> top(TrendingWindow window, int limit) {
+        Set<String> postIds = redisTemplate.opsForZSet()
+            .reverseRange(scoresKey(window), 0, limit - 1);
+        if (postIds == null) {
+            return new ArrayList<>();
+        }
+        return postIds.stream().map(Long::valueOf).collect(Collectors.toList());
+    }
+
+    @Override
+    public void remove(Long postId) {
+        for (TrendingWindow window : TrendingWindow.values()) {
+            redisTemplate.opsForZSet().remove(scoresKey(window), postId.toString());
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${post.trending.rescale-interval-ms:600000}")
+    public void rescale() {
+        String now = String.valueOf(System.currentTimeMillis());
+        for (TrendingWindow window : TrendingWindow.values()) {
+            try {
+                redisTemplate.execute(RESCALE_SCRIPT,
+                    Arrays.asList(scoresKey(window), epochKey(window)), now,
+                    String.valueOf(window.getHalfLifeMillis()), String.valueOf(minScore),
+                    String.valueOf(maxSize));
+            } catch (RuntimeException e) {
+                log.warn("Failed to rescale trending scores for {}", window.getLabel(), e);
+            }
+        }
+    }
+
+    private static String scoresKey(TrendingWindow window) {
+        return KEY_PREFIX + window.getLabel();
+    }
+
+    private static String epochKey(TrendingWindow window) {
+        return KEY_PREFIX + window.getLabel() + ":epoch";
+    }
+}
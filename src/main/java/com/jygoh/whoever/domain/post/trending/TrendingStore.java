@@ -0,0 +1,32 @@
+package com.jygoh.whoever.domain.post.trending;
+
+import java.util.List;
+
+/**
+ * 시간 감쇠 인기 점수. 이벤트는 기준 시각(epoch) 대비 2^((now - epoch) / 반감기) 배의 가중치로 더하므로
+ * (forward decay) 기존 점수를 고치지 않고도 오래된 이벤트의 비중이 줄어든다. 가중치가 계속 커지지 않도록
+ * 주기적으로 점수를 현재 시각 기준으로 다시 맞추고(rescale) 기준 시각을 옮긴다.
+ * <p>
+ * 점수는 순위용 근삿값이며 기록 실패가 요청을 실패시키지 않는다.
+ */
+public interface TrendingStore {
+
+    double VIEW_WEIGHT = 1;
+    double LIKE_WEIGHT = 3;
+    double COMMENT_WEIGHT = 5;
+
+    /**
+     * 모든 구간에 현재 시각 기준 가중치를 더한다. 가중치는 시각에 따라 커지므로 예전 이벤트를 음수로 되돌리는
+     * 데 쓰지 않는다.
+     */
+    void record(Long postId, double weight);
+
+    /**
+     * 점수가 높은 순서의 글 id
+     */
+    List<Long> top(TrendingWindow window, int limit);
+
+    void remove(Long postId);
+
+    void rescale();
+}
@@ -0,0 +1,31 @@
+package com.jygoh.whoever.domain.post.trending;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 인기 글 집계 구간. 구간마다 반감기가 다른 점수를 따로 유지하며, 반감기는 구간의 1/4 이다.
+ */
+@Getter
+public enum TrendingWindow {
+
+    DAY("24h", Duration.ofHours(6)),
+    WEEK("7d", Duration.ofHours(42));
+
+    private final String label;
+    private final long halfLifeMillis;
+
+    TrendingWindow(String label, Duration halfLife) {
+        this.label = label;
+        this.halfLifeMillis = halfLife.toMillis();
+    }
+
+    public static TrendingWindow from(String label) {
+        for (TrendingWindow window : values()) {
+            if (window.label.equalsIgnoreCase(label)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported trending window: " + label);
+    }
+}
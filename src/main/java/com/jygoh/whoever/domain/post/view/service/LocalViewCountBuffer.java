@@ -0,0 +1,99 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 를 사용하지 않을 때의 프로세스 내부 조회수 버퍼. 적재 값은 증가나 조회로 만료가 늘어나지 않으며,
+ * max-age 가 지나면 DB 에서 다시 적재해 반영과 겹친 적재에서 생긴 누락을 바로잡는다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "false")
+public class LocalViewCountBuffer implements ViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 적재된 글의 전체 조회수 (DB 반영분 + 미반영분)
+    private final Cache<Long, Long> totals;
+
+    public LocalViewCountBuffer(
+        @Value("${post.view-count.total-max-age-seconds:600}") long totalMaxAgeSeconds) {
+        long maxAgeNanos = Duration.ofSeconds(totalMaxAgeSeconds).toNanos();
+        // 증가도 쓰기이므로 expireAfterWrite 로는 조회가 많은 글이 다시 적재되지 않는다
+        this.totals = Caffeine.newBuilder().maximumSize(100000)
+            .expireAfter(new Expiry<Long, Long>() {
+                @Override
+                public long expireAfterCreate(Long postId, Long total, long currentTime) {
+                    return maxAgeNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(Long postId, Long total, long currentTime,
+                    long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(Long postId, Long total, long currentTime,
+                    long currentDuration) {
+                    return currentDuration;
+                }
+            }).build();
+    }
+
+    @Override
+    public void increment(Long postId) {
+        // 적재와 같은 키 잠금 안에서 올려야 적재 값에 이 증가분이 두 번 들어가지 않는다
+        totals.asMap().compute(postId, (id, total) -> {
+            add(postId, 1);
+            return total != null ? total + 1 : null;
+        });
+    }
+
+    @Override
+    public long getPending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Override
+    public long getViewCount(Long postId, LongSupplier persistedCount) {
+        Long total = totals.getIfPresent(postId);
+        if (total != null) {
+            return total;
+        }
+        long persisted = persistedCount.getAsLong();
+        return totals.asMap().computeIfAbsent(postId, id -> persisted + getPending(id));
+    }
+
+    @Override
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // 엔트리를 제거하지 않고 0 으로 되돌려야 동시에 들어온 증가분을 잃지 않는다
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(postId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    @Override
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    private void add(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+}
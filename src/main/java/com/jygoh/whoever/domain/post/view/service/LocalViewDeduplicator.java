@@ -0,0 +1,49 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 를 사용하지 않을 때의 프로세스 내부 조회 중복 제거. 만료 시각을 값으로 갖는 맵을 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "false")
+public class LocalViewDeduplicator implements ViewDeduplicator {
+
+    private final ConcurrentHashMap<String, Long> expiresAtByKey = new ConcurrentHashMap<>();
+    private final ViewCountBuffer viewCountBuffer;
+    private final long ttlMillis;
+
+    public LocalViewDeduplicator(ViewCountBuffer viewCountBuffer,
+        @Value("${post.view-count.dedup-ttl-seconds:300}") long ttlSeconds) {
+        this.viewCountBuffer = viewCountBuffer;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    @Override
+    public boolean recordView(Long postId, Long memberId) {
+        long now = System.currentTimeMillis();
+        boolean[] firstView = new boolean[1];
+        // compute 는 키 단위로 원자적이므로 동시에 들어온 요청 중 하나만 firstView 가 된다
+        expiresAtByKey.compute(ViewDeduplicator.viewKey(postId, memberId), (key, expiresAt) -> {
+            if (expiresAt == null || expiresAt <= now) {
+                firstView[0] = true;
+                return now + ttlMillis;
+            }
+            return expiresAt;
+        });
+        if (firstView[0]) {
+            viewCountBuffer.increment(postId);
+        }
+        return firstView[0];
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        expiresAtByKey.entrySet().removeIf(entry -> entry.getValue() <= now);
+    }
+}
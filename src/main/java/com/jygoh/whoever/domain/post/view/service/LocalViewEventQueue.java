@@ -0,0 +1,48 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "false")
+public class LocalViewEventQueue implements ViewEventQueue {
+
+    private final ViewEventRingBuffer buffer;
+
+    public LocalViewEventQueue(
+        @Value("${post.view-history.buffer-capacity:100000}") int bufferCapacity) {
+        this.buffer = new ViewEventRingBuffer(bufferCapacity);
+    }
+
+    @Override
+    public void publish(ViewEvent event) {
+        buffer.offer(event);
+    }
+
+    @Override
+    public List<ViewEvent> poll(int maxEvents) {
+        return buffer.poll(maxEvents);
+    }
+
+    @Override
+    public void acknowledge(List<ViewEvent> events) {
+        // poll 시점에 이미 버퍼에서 제거됨
+    }
+
+    @Override
+    public void release(List<ViewEvent> events) {
+        events.forEach(buffer::offer);
+    }
+
+    @Override
+    public long backlog() {
+        return buffer.size();
+    }
+
+    @Override
+    public long dropped() {
+        return buffer.dropped();
+    }
+}
@@ -0,0 +1,235 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream 과 컨슈머 그룹으로 조회 이벤트를 전달한다. 반영이 끝난 레코드는 XACK 후 XDEL 하므로
+ * 스트림 길이가 곧 밀린 이벤트 수가 된다. Redis 에 쓰지 못한 이벤트는 메모리 버퍼에 보관한다.
+ * <p>
+ * 내려간 노드가 읽고 ACK 하지 못한 레코드는 일정 시간 이상 방치되면 XCLAIM 으로 가져와 다시 처리한다.
+ * 스트림은 ACK 되지 않은 레코드를 잘라내지 않으며, 최대 길이를 넘으면 새 이벤트를 메모리 버퍼로 돌린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisStreamViewEventQueue implements ViewEventQueue {
+
+    public static final String STREAM_KEY = "postView:events";
+    private static final String GROUP = "view-history";
+    private static final int RECLAIM_BATCH = 1000;
+
+    // 가장 오래된 pending 레코드 (없으면 마지막으로 전달된 레코드) 보다 앞선 레코드만 잘라낸다
+    private static final RedisScript<Long> TRIM_SCRIPT = new DefaultRedisScript<>(
+        "local cutoff = redis.call('XPENDING', KEYS[1], ARGV[1])[2] "
+            + "if not cutoff then "
+            + "for _, group in ipairs(redis.call('XINFO', 'GROUPS', KEYS[1])) do "
+            + "local fields = {} "
+            + "for i = 1, #group, 2 do fields[group[i]] = group[i + 1] end "
+            + "if fields['name'] == ARGV[1] then cutoff = fields['last-delivered-id'] end "
+            + "end "
+            + "end "
+            + "if not cutoff then return 0 end "
+            + "return redis.call('XTRIM', KEYS[1], 'MINID', cutoff)", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewEventRingBuffer fallbackBuffer;
+    private final String consumerName;
+    private final long maxStreamLength;
+    private final Duration claimIdleTime;
+    private volatile boolean groupReady;
+    private volatile boolean streamFull;
+
+    public RedisStreamViewEventQueue(RedisTemplate<String, String> redisTemplate,
+        @Value("${post.view-history.buffer-capacity:100000}") int bufferCapacity,
+        @Value("${post.view-history.consumer-name:${HOSTNAME:view-history-worker}}")
+        String consumerName,
+        @Value("${post.view-history.max-stream-length:1000000}") long maxStreamLength,
+        @Value("${post.view-history.claim-idle-ms:60000}") long claimIdleMillis) {
+        this.redisTemplate = redisTemplate;
+        this.fallbackBuffer = new ViewEventRingBuffer(bufferCapacity);
+        this.consumerName = consumerName;
+        this.maxStreamLength = maxStreamLength;
+        this.claimIdleTime = Duration.ofMillis(claimIdleMillis);
+    }
+
+    @Override
+    public void publish(ViewEvent event) {
+        if (streamFull) {
+            fallbackBuffer.offer(event);
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY)
+                .ofMap(Map.of("memberId", event.getMemberId().toString(), "postId",
+                    event.getPostId().toString(), "viewedAt", event.getViewedAt().toString())));
+        } catch (DataAccessException e) {
+            fallbackBuffer.offer(event);
+        }
+    }
+
+    @Override
+    public List<ViewEvent> poll(int maxEvents) {
+        List<ViewEvent> events = fallbackBuffer.poll(maxEvents);
+        if (events.size() >= maxEvents) {
+            return events;
+        }
+        try {
+            ensureGroup();
+            int remaining = maxEvents - events.size();
+            // 이전에 읽고 ACK 하지 못한 레코드가 있으면 먼저 다시 처리한다
+            List<MapRecord<String, Object, Object>> records = read(ReadOffset.from("0"),
+                remaining);
+            if (records.isEmpty()) {
+                records = read(ReadOffset.lastConsumed(), remaining);
+            }
+            for (MapRecord<String, Object, Object> record : records) {
+                events.add(toEvent(record));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read view events from {}", STREAM_KEY, e);
+        }
+        return events;
+    }
+
+    @Override
+    public void acknowledge(List<ViewEvent> events) {
+        RecordId[] ids = events.stream().map(ViewEvent::getStreamId)
+            .filter(id -> id != null).map(RecordId::of).toArray(RecordId[]::new);
+        if (ids.length == 0) {
+            return;
+        }
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        redisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    @Override
+    public void release(List<ViewEvent> events) {
+        // 스트림에서 읽은 이벤트는 ACK 하지 않으면 pending 으로 남아 다음 poll 에서 다시 읽힌다
+        events.stream().filter(event -> event.getStreamId() == null)
+            .forEach(fallbackBuffer::offer);
+    }
+
+    @Override
+    public long backlog() {
+        long backlog = fallbackBuffer.size();
+        try {
+            Long size = redisTemplate.opsForStream().size(STREAM_KEY);
+            if (size != null) {
+                backlog += size;
+            }
+        } catch (DataAccessException e) {
+            log.debug("Failed to read length of {}", STREAM_KEY, e);
+        }
+        return backlog;
+    }
+
+    @Override
+    public long dropped() {
+        return fallbackBuffer.dropped();
+    }
+
+    /**
+     * XACK 후 XDEL 하지 못한 레코드를 정리하고, 워커가 멈춘 동안 스트림이 Redis 메모리를 계속 잡아먹지
+     * 않도록 최대 길이를 넘으면 새 이벤트를 메모리 버퍼로 돌린다 (버퍼가 차면 오래된 것부터 버린다).
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void trimStream() {
+        try {
+            ensureGroup();
+            redisTemplate.execute(TRIM_SCRIPT, List.of(STREAM_KEY), GROUP);
+            Long size = redisTemplate.opsForStream().size(STREAM_KEY);
+            boolean full = size != null && size >= maxStreamLength;
+            if (full && !streamFull) {
+                log.warn("{} reached {} entries, buffering new view events in memory",
+                    STREAM_KEY, size);
+            }
+            streamFull = full;
+        } catch (DataAccessException e) {
+            log.debug("Failed to trim {}", STREAM_KEY, e);
+        }
+    }
+
+    /**
+     * 다른 컨슈머가 읽고 오래 ACK 하지 않은 레코드를 이 컨슈머로 가져온다. 가져온 레코드는 pending 으로
+     * 남으므로 다음 poll 에서 처리된다. upsert 는 멱등이라 살아 있는 컨슈머와 겹쳐 처리해도 괜찮다.
+     */
+    @Scheduled(fixedDelayString = "${post.view-history.reclaim-interval-ms:30000}")
+    public void reclaimIdle() {
+        try {
+            ensureGroup();
+            PendingMessages pending = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, GROUP, Range.unbounded(), RECLAIM_BATCH);
+            RecordId[] ids = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery()
+                    .compareTo(claimIdleTime) >= 0)
+                .map(PendingMessage::getId).toArray(RecordId[]::new);
+            if (ids.length > 0) {
+                redisTemplate.opsForStream()
+                    .claim(STREAM_KEY, GROUP, consumerName, claimIdleTime, ids);
+                log.info("Reclaimed {} idle view events from {}", ids.length, STREAM_KEY);
+            }
+        } catch (DataAccessException e) {
+            log.debug("Failed to reclaim pending entries of {}", STREAM_KEY, e);
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset, int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+            .read(Consumer.from(GROUP, consumerName), StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, offset));
+        return records != null ? records : new ArrayList<>();
+    }
+
+    private ViewEvent toEvent(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> fields = record.getValue();
+        return new ViewEvent(Long.valueOf(fields.get("memberId").toString()),
+            Long.valueOf(fields.get("postId").toString()),
+            LocalDateTime.parse(fields.get("viewedAt").toString()), record.getId().getValue());
+    }
+
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<String>) (RedisConnection connection) -> connection
+                .streamCommands().xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP,
+                    ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            // BUSYGROUP: 이미 생성된 그룹
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+}
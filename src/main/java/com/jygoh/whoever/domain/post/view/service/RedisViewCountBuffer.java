@@ -0,0 +1,111 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 증가분을 Redis 해시(postId -> delta)에 누적한다. 여러 노드가 같은 해시를 공유한다.
+ * <p>
+ * 응답에 쓰는 전체 조회수는 글별 키(postViewCount:total:{id})에 따로 두고 증가분과 함께 올린다.
+ * 반영 주기에 따라 바뀌지 않으므로 어느 노드에서 읽어도 뒤로 가지 않는다. 적재 값은 반영과 겹치면 덜 세어질
+ * 수 있으므로 읽어도 만료 시간을 늘리지 않고, max-age 가 지나면 DB 에서 다시 적재해 차이를 바로잡는다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisViewCountBuffer implements ViewCountBuffer {
+
+    public static final String PENDING_KEY = "postViewCount:pending";
+    private static final String TOTAL_KEY_PREFIX = "postViewCount:total:";
+
+    // HGETALL 과 DEL 을 원자적으로 수행해 drain 중 들어온 증가분이 유실되지 않도록 한다
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+        "local entries = redis.call('HGETALL', KEYS[1]) "
+            + "redis.call('DEL', KEYS[1]) "
+            + "return entries", List.class);
+
+    // 적재된 글이면 전체 조회수도 함께 올린다 (RedisViewDeduplicator 와 같은 규칙)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('HINCRBY', KEYS[1], ARGV[1], 1) "
+            + "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('INCR', KEYS[2]) end "
+            + "return 1", Long.class);
+
+    // 다른 노드가 먼저 적재했다면 그 값을 쓴다. DB 값을 먼저 읽고 미반영분을 나중에 읽으므로 그 사이에
+    // 반영이 끝나면 그만큼 덜 세어질 수는 있어도 중복 집계되지는 않는다. 만료는 적재할 때만 정한다
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+        "local total = redis.call('GET', KEYS[1]) "
+            + "if not total then "
+            + "total = tonumber(ARGV[2]) + tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') "
+            + "redis.call('SET', KEYS[1], total, 'EX', ARGV[3]) "
+            + "end "
+            + "return tonumber(total)", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration totalMaxAge;
+
+    public RedisViewCountBuffer(RedisTemplate<String, String> redisTemplate,
+        @Value("${post.view-count.total-max-age-seconds:600}") long totalMaxAgeSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.totalMaxAge = Duration.ofSeconds(totalMaxAgeSeconds);
+    }
+
+    public static String totalKey(Long postId) {
+        return TOTAL_KEY_PREFIX + postId;
+    }
+
+    @Override
+    public void increment(Long postId) {
+        redisTemplate.execute(INCREMENT_SCRIPT, Arrays.asList(PENDING_KEY, totalKey(postId)),
+            postId.toString());
+    }
+
+    @Override
+    public long getPending(Long postId) {
+        Object value = redisTemplate.opsForHash().get(PENDING_KEY, postId.toString());
+        return value != null ? Long.parseLong(value.toString()) : 0;
+    }
+
+    @Override
+    public long getViewCount(Long postId, LongSupplier persistedCount) {
+        String total = redisTemplate.opsForValue().get(totalKey(postId));
+        if (total != null) {
+            return Long.parseLong(total);
+        }
+        Long seeded = redisTemplate.execute(SEED_SCRIPT,
+            Arrays.asList(totalKey(postId), PENDING_KEY), postId.toString(),
+            String.valueOf(persistedCount.getAsLong()), String.valueOf(totalMaxAge.getSeconds()));
+        return seeded != null ? seeded : 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> drain() {
+        List<String> entries = redisTemplate.execute(DRAIN_SCRIPT,
+            Collections.singletonList(PENDING_KEY));
+        Map<Long, Long> deltas = new HashMap<>();
+        if (entries == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            deltas.put(Long.valueOf(entries.get(i)), Long.valueOf(entries.get(i + 1)));
+        }
+        return deltas;
+    }
+
+    @Override
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((postId, delta) -> redisTemplate.opsForHash()
+            .increment(PENDING_KEY, postId.toString(), delta));
+    }
+}
@@ -0,0 +1,44 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.util.Arrays;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * SET NX EX 와 조회수 버퍼 증가를 Lua 스크립트 하나로 묶어 한 번의 왕복으로 처리한다. 적재된 글이면
+ * 전체 조회수 키도 함께 올린다.
+ */
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisViewDeduplicator implements ViewDeduplicator {
+
+    private static final RedisScript<Long> RECORD_VIEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then "
+            + "redis.call('HINCRBY', KEYS[2], ARGV[2], 1) "
+            + "if redis.call('EXISTS', KEYS[3]) == 1 then redis.call('INCR', KEYS[3]) end "
+            + "return 1 "
+            + "end "
+            + "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlSeconds;
+
+    public RedisViewDeduplicator(RedisTemplate<String, String> redisTemplate,
+        @Value("${post.view-count.dedup-ttl-seconds:300}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    public boolean recordView(Long postId, Long memberId) {
+        Long result = redisTemplate.execute(RECORD_VIEW_SCRIPT,
+            Arrays.asList(ViewDeduplicator.viewKey(postId, memberId),
+                RedisViewCountBuffer.PENDING_KEY, RedisViewCountBuffer.totalKey(postId)),
+            String.valueOf(ttlSeconds), postId.toString());
+        return Long.valueOf(1).equals(result);
+    }
+}
@@ -0,0 +1,35 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 조회수 증가분을 DB 에 바로 쓰지 않고 모아 두는 write-behind 버퍼.
+ * 누적된 증가분은 {@link ViewCountFlusher} 가 주기적으로 post.view_count 에 반영한다.
+ */
+public interface ViewCountBuffer {
+
+    void increment(Long postId);
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 증가분.
+     */
+    long getPending(Long postId);
+
+    /**
+     * DB 반영분과 미반영분을 합친 현재 조회수. 반영 주기와 무관하게 줄어들지 않는다. 아직 적재되지 않은 글이면
+     * persistedCount 로 DB 값을 읽어 미반영분을 더한 값으로 적재한다. 적재 값은 max-age 가 지나면 다시
+     * 적재한다.
+     */
+    long getViewCount(Long postId, LongSupplier persistedCount);
+
+    /**
+     * 누적된 증가분을 모두 꺼내고 버퍼를 비운다.
+     */
+    Map<Long, Long> drain();
+
+    /**
+     * 반영에 실패한 증가분을 버퍼로 되돌린다.
+     */
+    void restore(Map<Long, Long> deltas);
+}
@@ -0,0 +1,62 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link ViewCountBuffer} 에 누적된 조회수를 배치 UPDATE 로 post 테이블에 반영한다.
+ */
+@Slf4j
+@Component
+public class ViewCountFlusher {
+
+    private static final String FLUSH_SQL =
+        "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ViewCountFlusher(ViewCountBuffer viewCountBuffer, JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate) {
+        this.viewCountBuffer = viewCountBuffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = viewCountBuffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        try {
+            // 배치 일부만 반영된 채 되돌려 중복 집계되지 않도록 한 트랜잭션으로 묶는다
+            transactionTemplate.executeWithoutResult(
+                status -> jdbcTemplate.batchUpdate(FLUSH_SQL, entries, BATCH_SIZE,
+                    (ps, entry) -> {
+                        ps.setLong(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                    }));
+        } catch (DataAccessException e) {
+            // 반영하지 못한 증가분은 버퍼로 되돌려 다음 주기에 다시 시도한다
+            log.warn("Failed to flush view counts for {} posts", deltas.size(), e);
+            viewCountBuffer.restore(deltas);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
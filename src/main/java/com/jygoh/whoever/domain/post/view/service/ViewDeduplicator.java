@@ -0,0 +1,19 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+/**
+ * 일정 시간 안에 같은 사용자가 같은 게시글을 다시 조회한 경우를 걸러내고, 처음 조회라면 조회수를 올린다.
+ * 조회 여부 확인과 기록, 조회수 증가가 하나의 원자적 연산으로 처리된다.
+ */
+public interface ViewDeduplicator {
+
+    /**
+     * @param memberId 비로그인 사용자는 null
+     * @return 조회수가 증가했다면 true
+     */
+    boolean recordView(Long postId, Long memberId);
+
+    static String viewKey(Long postId, Long memberId) {
+        String key = "postView:" + postId;
+        return memberId != null ? key + ":" + memberId : key;
+    }
+}
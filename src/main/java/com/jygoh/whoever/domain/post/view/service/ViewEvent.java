@@ -0,0 +1,24 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class ViewEvent {
+
+    private final Long memberId;
+    private final Long postId;
+    private final LocalDateTime viewedAt;
+    private final String streamId; // Redis Stream 에서 읽은 이벤트의 레코드 ID
+
+    public ViewEvent(Long memberId, Long postId, LocalDateTime viewedAt) {
+        this(memberId, postId, viewedAt, null);
+    }
+
+    public ViewEvent(Long memberId, Long postId, LocalDateTime viewedAt, String streamId) {
+        this.memberId = memberId;
+        this.postId = postId;
+        this.viewedAt = viewedAt;
+        this.streamId = streamId;
+    }
+}
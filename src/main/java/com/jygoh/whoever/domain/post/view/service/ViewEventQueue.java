@@ -0,0 +1,31 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.util.List;
+
+/**
+ * 로그인 사용자의 조회 기록 이벤트 큐. 요청 스레드는 이벤트만 넣고, View 테이블 반영은
+ * {@link ViewHistoryWriter} 가 배치로 처리한다.
+ */
+public interface ViewEventQueue {
+
+    void publish(ViewEvent event);
+
+    List<ViewEvent> poll(int maxEvents);
+
+    /**
+     * DB 반영이 끝난 이벤트를 큐에서 제거한다.
+     */
+    void acknowledge(List<ViewEvent> events);
+
+    /**
+     * DB 반영에 실패한 이벤트를 다시 처리할 수 있도록 되돌린다.
+     */
+    void release(List<ViewEvent> events);
+
+    /**
+     * 아직 반영되지 않은 이벤트 수.
+     */
+    long backlog();
+
+    long dropped();
+}
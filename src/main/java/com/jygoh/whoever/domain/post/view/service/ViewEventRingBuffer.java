@@ -0,0 +1,41 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기가 고정된 이벤트 버퍼. 가득 차면 가장 오래된 이벤트를 버린다.
+ */
+class ViewEventRingBuffer {
+
+    private final ArrayBlockingQueue<ViewEvent> queue;
+    private final AtomicLong dropped = new AtomicLong();
+
+    ViewEventRingBuffer(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    void offer(ViewEvent event) {
+        while (!queue.offer(event)) {
+            if (queue.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    List<ViewEvent> poll(int maxEvents) {
+        List<ViewEvent> events = new ArrayList<>(Math.min(maxEvents, queue.size()));
+        queue.drainTo(events, maxEvents);
+        return events;
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+}
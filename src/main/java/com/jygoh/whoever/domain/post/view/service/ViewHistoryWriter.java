@@ -0,0 +1,107 @@
+package com.jygoh.whoever.domain.post.view.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ViewEventQueue} 의 조회 이벤트를 배치로 꺼내 View 테이블에 upsert 한다.
+ */
+@Slf4j
+@Component
+public class ViewHistoryWriter {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO `view` (member_id, post_id, created_at, updated_at) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE updated_at = "
+            + "GREATEST(COALESCE(updated_at, VALUES(updated_at)), VALUES(updated_at))";
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ViewEventQueue viewEventQueue;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer lagTimer;
+
+    public ViewHistoryWriter(ViewEventQueue viewEventQueue, JdbcTemplate jdbcTemplate,
+        MeterRegistry meterRegistry, @Value("${post.view-history.batch-size:300}") int batchSize) {
+        this.viewEventQueue = viewEventQueue;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        Gauge.builder("view.history.backlog", viewEventQueue, ViewEventQueue::backlog)
+            .description("View events waiting to be written").register(meterRegistry);
+        FunctionCounter.builder("view.history.dropped", viewEventQueue, ViewEventQueue::dropped)
+            .description("View events dropped because the fallback buffer was full")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("view.history.batch.size")
+            .description("View events written per batch").register(meterRegistry);
+        this.lagTimer = Timer.builder("view.history.lag")
+            .description("Age of the oldest event in a written batch").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-history.poll-interval-ms:1000}")
+    public synchronized void drain() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<ViewEvent> events = viewEventQueue.poll(batchSize);
+            if (events.isEmpty() || !write(events) || events.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        drain();
+    }
+
+    private boolean write(List<ViewEvent> events) {
+        List<ViewEvent> rows = latestPerMemberAndPost(events);
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows, batchSize, (ps, event) -> {
+                Timestamp viewedAt = Timestamp.valueOf(event.getViewedAt());
+                ps.setLong(1, event.getMemberId());
+                ps.setLong(2, event.getPostId());
+                ps.setTimestamp(3, viewedAt);
+                ps.setTimestamp(4, viewedAt);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to write {} view events", events.size(), e);
+            viewEventQueue.release(events);
+            return false;
+        }
+        viewEventQueue.acknowledge(events);
+        batchSizeSummary.record(events.size());
+        events.stream().map(ViewEvent::getViewedAt).min(Comparator.naturalOrder())
+            .ifPresent(oldest -> lagTimer.record(Duration.between(oldest, LocalDateTime.now())));
+        return true;
+    }
+
+    // 같은 (member, post) 는 마지막 조회만 남기고, 노드 간 락 순서가 같도록 정렬한다
+    private List<ViewEvent> latestPerMemberAndPost(List<ViewEvent> events) {
+        Map<String, ViewEvent> latest = new HashMap<>();
+        for (ViewEvent event : events) {
+            latest.merge(event.getMemberId() + ":" + event.getPostId(), event,
+                (a, b) -> a.getViewedAt().isAfter(b.getViewedAt()) ? a : b);
+        }
+        List<ViewEvent> rows = new ArrayList<>(latest.values());
+        rows.sort(Comparator.comparing(ViewEvent::getMemberId).thenComparing(ViewEvent::getPostId));
+        return rows;
+    }
+}
@@ -0,0 +1,94 @@
+package com.jygoh.whoever.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로딩을 하나로 합친다. 먼저 들어온 요청(leader)만 로더를 실행하고, 그동안 들어온
+ * 요청은 leader 의 결과를 기다려 함께 사용한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderLoads;
+    private final Counter coalescedLoads;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaderLoads = Counter.builder("singleflight.loads").tag("name", name)
+            .tag("role", "leader").register(meterRegistry);
+        this.coalescedLoads = Counter.builder("singleflight.loads").tag("name", name)
+            .tag("role", "coalesced").register(meterRegistry);
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return await(existing);
+        }
+        leaderLoads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 백그라운드에서 로딩한다. 같은 키의 로딩이 이미 진행 중이거나 대기 중이면 아무것도 하지 않는다.
+     * 작업을 넘기기 전에 자리를 먼저 잡으므로 워커가 작업을 꺼내기 전에 들어온 요청도 합쳐진다.
+     */
+    public void refreshAsync(K key, Supplier<V> loader, Consumer<V> onLoaded, Executor executor) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return;
+        }
+        leaderLoads.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    V value = loader.get();
+                    flight.complete(value);
+                    onLoaded.accept(value);
+                } catch (RuntimeException | Error e) {
+                    // 다음 요청에서 다시 시도한다
+                    flight.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, flight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            flight.completeExceptionally(e);
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
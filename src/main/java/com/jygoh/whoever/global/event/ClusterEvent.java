@@ -0,0 +1,14 @@
+package com.jygoh.whoever.global.event;
+
+/**
+ * 다른 노드에도 전달해야 하는 도메인 이벤트. 색인처럼 노드마다 따로 들고 있는 파생 데이터를 갱신하는 이벤트가
+ * 여기에 해당한다. Redis 를 사용하면 {@link RedisClusterEventRelay} 가 커밋 후 다른 노드로 전달한다.
+ */
+public interface ClusterEvent {
+
+    /**
+     * 다른 노드에서 전달받은 이벤트면 true. 전달받은 이벤트는 다시 전파하지 않으며, 원래 노드에서 한 번만
+     * 해야 하는 일(팬아웃 등)은 건너뛴다.
+     */
+    boolean isRemote();
+}
@@ -0,0 +1,106 @@
+package com.jygoh.whoever.global.event;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 커밋된 {@link ClusterEvent} 를 Redis Pub/Sub 으로 다른 노드에 전달하고, 다른 노드에서 온 이벤트를 이 노드에
+ * remote 로 다시 발행한다. Pub/Sub 은 연결이 끊긴 동안의 메시지를 보관하지 않으므로, 받는 쪽 색인은 기존처럼
+ * 주기적인 재구축으로 최종 일치를 보장한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "whoever.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisClusterEventRelay implements MessageListener {
+
+    public static final String CHANNEL = "cluster:events";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisMessageListenerContainer container;
+
+    public RedisClusterEventRelay(RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+        RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        // 이벤트에 setter 가 없으므로 필드로 직렬화한다 (파생 getter 는 싣지 않는다)
+        this.objectMapper = objectMapper.copy()
+            .setVisibility(PropertyAccessor.ALL, Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.eventPublisher = eventPublisher;
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        this.container.afterPropertiesSet();
+        this.container.start();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClusterEvent(ClusterEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        try {
+            ObjectNode envelope = objectMapper.createObjectNode();
+            envelope.put("node", nodeId);
+            envelope.put("type", event.getClass().getName());
+            envelope.set("event", objectMapper.valueToTree(event));
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (DataAccessException | JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Failed to relay {} to other nodes", event.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode envelope = objectMapper.readTree(
+                new String(message.getBody(), StandardCharsets.UTF_8));
+            if (nodeId.equals(envelope.path("node").asText())) {
+                return;
+            }
+            Class<?> type = ClassUtils.forName(envelope.path("type").asText(),
+                getClass().getClassLoader());
+            // 전달받을 수 있는 타입은 ClusterEvent 로 제한한다
+            if (!ClusterEvent.class.isAssignableFrom(type)) {
+                log.warn("Ignoring relayed event of type {}", type.getName());
+                return;
+            }
+            ObjectNode event = (ObjectNode) envelope.path("event");
+            event.put("remote", true);
+            eventPublisher.publishEvent(objectMapper.treeToValue(event, type));
+        } catch (Exception e) {
+            log.warn("Failed to handle relayed event", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        container.destroy();
+    }
+}
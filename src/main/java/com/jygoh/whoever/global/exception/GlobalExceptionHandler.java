@@ -12,4 +12,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<?> handleMemberAlreadyExistsException(MemberAlreadyExistsException e) {
         return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
     }
+
+    // 컨트롤러에서 잡지 않은 잘못된 요청 값(커서 등)은 500 대신 400 으로 응답한다
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleIllegalArgumentException(IllegalArgumentException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
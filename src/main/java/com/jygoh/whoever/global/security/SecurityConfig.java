@@ -38,6 +38,7 @@ public class SecurityConfig {
                     .requestMatchers("/api/v1/auth/**").permitAll()
                     .requestMatchers("/api/v1/member/register").permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/v1/hashtags/**").permitAll()
                     .requestMatchers("/login/**").permitAll()
                     .anyRequest().authenticated()
             )
@@ -0,0 +1,84 @@
+package com.jygoh.whoever.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jygoh.whoever.global.cache.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+
+    private static final int THREADS = 64;
+
+    @Test
+    public void testConcurrentStaleReadsQueueOneRefresh() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test",
+            new SimpleMeterRegistry());
+        // 워커가 아직 작업을 꺼내지 않은 상태를 만들기 위해 넘겨받은 작업을 쌓아 두기만 한다
+        List<Runnable> queued = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger loaded = new AtomicInteger();
+
+        runConcurrently(() -> singleFlight.refreshAsync(1L, () -> {
+            loads.incrementAndGet();
+            return "detail";
+        }, value -> loaded.incrementAndGet(), queued::add));
+        assertEquals(1, queued.size());
+
+        queued.forEach(Runnable::run);
+        assertEquals(1, loads.get());
+        assertEquals(1, loaded.get());
+
+        // 끝난 뒤에는 다시 새로 고칠 수 있다
+        singleFlight.refreshAsync(1L, () -> "detail", value -> {
+        }, queued::add);
+        assertEquals(2, queued.size());
+    }
+
+    @Test
+    public void testFailedRefreshReleasesKey() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test",
+            new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        singleFlight.refreshAsync(1L, () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("db down");
+        }, value -> {
+        }, Runnable::run);
+        singleFlight.refreshAsync(1L, () -> {
+            loads.incrementAndGet();
+            return "detail";
+        }, value -> {
+        }, Runnable::run);
+        assertEquals(2, loads.get());
+    }
+
+    private void runConcurrently(Runnable call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    call.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.jygoh.whoever.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jygoh.whoever.domain.feed.service.FeedServiceImpl;
+import com.jygoh.whoever.domain.feed.service.LocalTimelineStore;
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import com.jygoh.whoever.domain.follow.repository.FollowRepository;
+import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FeedServiceTest {
+
+    private static final int THRESHOLD = 2;
+    private static final Long AUTHOR = 10L;
+
+    private LocalTimelineStore timelineStore;
+    private FollowRepository followRepository;
+    private PostRepository postRepository;
+    private FeedServiceImpl feedService;
+
+    @BeforeEach
+    public void setUp() {
+        timelineStore = new LocalTimelineStore(100, 3600);
+        followRepository = mock(FollowRepository.class);
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findIdsByAuthorIdBefore(eq(AUTHOR), anyLong(), any()))
+            .thenReturn(List.of(5L, 3L));
+        when(postRepository.findIdsByAuthorIdAndIdIn(eq(AUTHOR), any()))
+            .thenReturn(List.of(5L, 3L));
+        feedService = new FeedServiceImpl(timelineStore, followRepository,
+            mock(MemberRepository.class), postRepository, THRESHOLD, 100);
+        // 두 회원 모두 인기 작성자 집합을 적재해 둔다
+        timelineStore.loadFollowedCelebrities(1L, List.of());
+        timelineStore.loadFollowedCelebrities(2L, List.of());
+    }
+
+    @Test
+    public void testFollowBelowThresholdBackfillsTimeline() {
+        feedService.onFollowChanged(new FollowChangedEvent(1L, AUTHOR, true, 1));
+        assertEquals(List.of(5L, 3L), timelineStore.page(1L, null, 10));
+        assertEquals(Set.of(), timelineStore.followedCelebrities(1L));
+    }
+
+    @Test
+    public void testThresholdCrossingsMoveAuthorBetweenPushAndPull() {
+        feedService.onFollowChanged(new FollowChangedEvent(1L, AUTHOR, true, 1));
+        // 두 번째 팔로우로 기준에 닿으면 모든 팔로워가 읽을 때 가져온다
+        when(followRepository.findFollowerIds(AUTHOR)).thenReturn(List.of(1L, 2L));
+        feedService.onFollowChanged(new FollowChangedEvent(2L, AUTHOR, true, THRESHOLD));
+        assertEquals(Set.of(AUTHOR), timelineStore.followedCelebrities(1L));
+        assertEquals(Set.of(AUTHOR), timelineStore.followedCelebrities(2L));
+
+        // 언팔로우로 기준 아래로 내려가면 남은 팔로워의 타임라인을 채운다
+        when(followRepository.findFollowerIds(AUTHOR)).thenReturn(List.of(2L));
+        feedService.onFollowChanged(new FollowChangedEvent(1L, AUTHOR, false, THRESHOLD - 1));
+        assertEquals(List.of(), timelineStore.page(1L, null, 10));
+        assertEquals(Set.of(), timelineStore.followedCelebrities(1L));
+        assertEquals(List.of(5L, 3L), timelineStore.page(2L, null, 10));
+        assertEquals(Set.of(), timelineStore.followedCelebrities(2L));
+    }
+}
@@ -0,0 +1,50 @@
+package com.jygoh.whoever.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.jygoh.whoever.domain.feed.service.LocalTimelineStore;
+import com.jygoh.whoever.domain.feed.service.TimelineMerger;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class TimelineTest {
+
+    @Test
+    public void testMergeNewestFirstWithoutDuplicates() {
+        List<List<Long>> sources = List.of(List.of(9L, 6L, 2L), List.of(8L, 6L, 1L), List.of(),
+            List.of(7L, 3L));
+        assertEquals(List.of(9L, 8L, 7L, 6L, 3L, 2L, 1L),
+            TimelineMerger.mergeNewestFirst(sources, 10));
+        assertEquals(List.of(9L, 8L, 7L), TimelineMerger.mergeNewestFirst(sources, 3));
+    }
+
+    @Test
+    public void testTimelineIsCappedAndPagedByCursor() {
+        LocalTimelineStore store = new LocalTimelineStore(3, 3600);
+        for (long postId = 1; postId <= 5; postId++) {
+            store.push(List.of(1L, 2L), postId);
+        }
+        // 최근 3개만 남는다
+        assertEquals(List.of(5L, 4L, 3L), store.page(1L, null, 10));
+        assertEquals(List.of(4L, 3L), store.page(2L, 5L, 2));
+        store.removeAll(1L, List.of(4L));
+        assertEquals(List.of(5L, 3L), store.page(1L, null, 10));
+        assertEquals(List.of(), store.page(3L, null, 10));
+    }
+
+    @Test
+    public void testFollowedCelebritiesKeepChangesMadeBeforeLoad() {
+        LocalTimelineStore store = new LocalTimelineStore(3, 3600);
+        assertNull(store.followedCelebrities(1L));
+        // 적재 전에 기준을 넘은 작성자도 적재 후 남는다
+        store.addFollowedCelebrity(List.of(1L, 2L), 10L);
+        store.loadFollowedCelebrities(1L, List.of(11L));
+        assertEquals(Set.of(10L, 11L), store.followedCelebrities(1L));
+        assertNull(store.followedCelebrities(2L));
+
+        store.removeFollowedCelebrity(List.of(1L, 3L), 10L);
+        assertEquals(Set.of(11L), store.followedCelebrities(1L));
+    }
+}
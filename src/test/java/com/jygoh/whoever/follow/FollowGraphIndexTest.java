@@ -0,0 +1,68 @@
+package com.jygoh.whoever.follow;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import com.jygoh.whoever.domain.follow.index.FollowGraphIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class FollowGraphIndexTest {
+
+    private FollowGraphIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new FollowGraphIndex(mock(JdbcTemplate.class));
+        follow(1L, 3L);
+        follow(1L, 2L);
+        follow(1L, 4L);
+        follow(2L, 1L);
+        follow(4L, 1L);
+        follow(3L, 2L);
+    }
+
+    @Test
+    public void testAdjacencyIsSorted() {
+        assertArrayEquals(new long[]{2L, 3L, 4L}, index.following(1L));
+        assertArrayEquals(new long[]{2L, 4L}, index.followers(1L));
+        assertArrayEquals(new long[]{1L, 3L}, index.followers(2L));
+        assertArrayEquals(new long[]{}, index.following(5L));
+    }
+
+    @Test
+    public void testMembershipMutualsAndCounts() {
+        assertTrue(index.isFollowing(1L, 3L));
+        assertFalse(index.isFollowing(3L, 1L));
+        assertArrayEquals(new long[]{2L, 4L}, index.mutuals(1L));
+        assertEquals(3, index.followingCount(1L));
+        assertEquals(2, index.followerCount(2L));
+    }
+
+    @Test
+    public void testFollowIsIdempotentAndUnfollowRemovesBothDirections() {
+        follow(1L, 3L);
+        assertEquals(3, index.followingCount(1L));
+        index.onFollowChanged(new FollowChangedEvent(1L, 3L, false, 0));
+        index.onFollowChanged(new FollowChangedEvent(3L, 2L, false, 0));
+        assertArrayEquals(new long[]{2L, 4L}, index.following(1L));
+        assertArrayEquals(new long[]{}, index.following(3L));
+        assertArrayEquals(new long[]{1L}, index.followers(2L));
+    }
+
+    @Test
+    public void testIntersect() {
+        assertArrayEquals(new long[]{3L, 7L},
+            FollowGraphIndex.intersect(new long[]{1L, 3L, 5L, 7L}, new long[]{2L, 3L, 7L, 9L}));
+        assertArrayEquals(new long[]{}, FollowGraphIndex.intersect(new long[]{}, new long[]{1L}));
+    }
+
+    private void follow(Long followerId, Long followeeId) {
+        index.onFollowChanged(new FollowChangedEvent(followerId, followeeId, true, 0));
+    }
+}
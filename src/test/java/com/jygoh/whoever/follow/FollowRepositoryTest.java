@@ -0,0 +1,52 @@
+package com.jygoh.whoever.follow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jygoh.whoever.domain.follow.model.Follow;
+import com.jygoh.whoever.domain.follow.repository.FollowEntry;
+import com.jygoh.whoever.domain.follow.repository.FollowRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+public class FollowRepositoryTest {
+
+    private static final Long MEMBER_ID = 100L;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Test
+    public void testFollowersKeysetPagingCoversTiesInOrder() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        // 1~3 은 같은 시각에 팔로우
+        for (long followerId = 1; followerId <= 5; followerId++) {
+            LocalDateTime createdAt = followerId <= 3 ? base : base.plusMinutes(followerId);
+            followRepository.save(Follow.builder().followerId(followerId).followeeId(MEMBER_ID)
+                .createdAt(createdAt).build());
+        }
+        followRepository.save(Follow.builder().followerId(MEMBER_ID).followeeId(1L)
+            .createdAt(base).build());
+
+        List<Long> followerIds = new ArrayList<>();
+        List<FollowEntry> page = followRepository.findLatestFollowers(MEMBER_ID,
+            PageRequest.ofSize(2));
+        while (!page.isEmpty()) {
+            page.forEach(entry -> followerIds.add(entry.getMemberId()));
+            FollowEntry last = page.get(page.size() - 1);
+            page = followRepository.findLatestFollowersBefore(MEMBER_ID, last.getCreatedAt(),
+                last.getMemberId(), PageRequest.ofSize(2));
+        }
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), followerIds);
+
+        List<FollowEntry> following = followRepository.findLatestFollowing(MEMBER_ID,
+            PageRequest.ofSize(10));
+        assertEquals(1, following.size());
+        assertEquals(1L, following.get(0).getMemberId());
+    }
+}
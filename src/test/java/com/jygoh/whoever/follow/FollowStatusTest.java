@@ -0,0 +1,83 @@
+package com.jygoh.whoever.follow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jygoh.whoever.domain.follow.dto.FollowStatusResponseDto;
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import com.jygoh.whoever.domain.follow.index.FollowGraphIndex;
+import com.jygoh.whoever.domain.follow.index.LocalRecentFollowStore;
+import com.jygoh.whoever.domain.follow.repository.FollowRepository;
+import com.jygoh.whoever.domain.follow.service.FollowServiceImpl;
+import com.jygoh.whoever.domain.follow.suggestion.FollowSuggestionEngine;
+import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.member.service.AuthorNicknameResolver;
+import com.jygoh.whoever.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class FollowStatusTest {
+
+    private static final String TOKEN = "token";
+    private static final long ME = 1L;
+    private static final long MEMBER = 2L;
+
+    private FollowGraphIndex index;
+    private LocalRecentFollowStore recentFollowStore;
+    private FollowServiceImpl followService;
+
+    @BeforeEach
+    public void setUp() {
+        index = new FollowGraphIndex(mock(JdbcTemplate.class));
+        index.rebuild(); // 빈 follow 테이블에서 적재 완료
+        recentFollowStore = new LocalRecentFollowStore(60);
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.getMemberIdFromToken(TOKEN)).thenReturn(ME);
+        FollowRepository followRepository = mock(FollowRepository.class);
+        followService = new FollowServiceImpl(mock(MemberRepository.class), followRepository,
+            jwtTokenProvider, index, recentFollowStore,
+            new FollowSuggestionEngine(index, 100, 20, 7), mock(AuthorNicknameResolver.class),
+            mock(ApplicationEventPublisher.class));
+        // 2 는 나를 팔로우하고, 3 은 2 를 팔로우한다
+        index.onFollowChanged(new FollowChangedEvent(MEMBER, ME, true, 1));
+        index.onFollowChanged(new FollowChangedEvent(3L, MEMBER, true, 1));
+    }
+
+    @Test
+    public void testStatusComesFromIndex() {
+        FollowStatusResponseDto status = followService.getFollowStatus(TOKEN, MEMBER);
+        assertFalse(status.isFollowing());
+        assertTrue(status.isFollowsYou());
+        assertEquals(1, status.getFollowerCount());
+        assertEquals(1, status.getFollowingCount());
+        assertEquals(0, status.getMutualCount());
+    }
+
+    @Test
+    public void testOwnChangeIsVisibleBeforeIndexReceivesIt() {
+        // 다른 노드에서 팔로우해 이 노드 색인에는 아직 전달되지 않은 상태
+        recentFollowStore.onFollowChanged(new FollowChangedEvent(ME, MEMBER, true, 2));
+        FollowStatusResponseDto status = followService.getFollowStatus(TOKEN, MEMBER);
+        assertTrue(status.isFollowing());
+        assertEquals(2, status.getFollowerCount());
+        assertEquals(1, status.getMutualCount());
+
+        // 전달된 뒤에도 같은 값이다
+        index.onFollowChanged(new FollowChangedEvent(ME, MEMBER, true, 2));
+        status = followService.getFollowStatus(TOKEN, MEMBER);
+        assertTrue(status.isFollowing());
+        assertEquals(2, status.getFollowerCount());
+        assertEquals(1, status.getMutualCount());
+
+        recentFollowStore.onFollowChanged(new FollowChangedEvent(ME, MEMBER, false, 1));
+        status = followService.getFollowStatus(TOKEN, MEMBER);
+        assertFalse(status.isFollowing());
+        assertEquals(1, status.getFollowerCount());
+        assertEquals(0, status.getMutualCount());
+    }
+}
@@ -0,0 +1,74 @@
+package com.jygoh.whoever.follow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.jygoh.whoever.domain.follow.event.FollowChangedEvent;
+import com.jygoh.whoever.domain.follow.index.FollowGraphIndex;
+import com.jygoh.whoever.domain.follow.suggestion.FollowSuggestion;
+import com.jygoh.whoever.domain.follow.suggestion.FollowSuggestionEngine;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class FollowSuggestionEngineTest {
+
+    private FollowGraphIndex index;
+    private FollowSuggestionEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        index = new FollowGraphIndex(mock(JdbcTemplate.class));
+        index.rebuild(); // 빈 follow 테이블에서 적재 완료
+        engine = new FollowSuggestionEngine(index, 1000, 20, 7);
+        // 1 -> 2, 3 / 2 -> 4, 5 / 3 -> 4, 1 / 5 -> 6
+        follow(1L, 2L);
+        follow(1L, 3L);
+        follow(2L, 4L);
+        follow(2L, 5L);
+        follow(3L, 4L);
+        follow(3L, 1L);
+        follow(5L, 6L);
+    }
+
+    @Test
+    public void testFriendsOfFriendsRankedBySharedCount() {
+        // 4 는 2, 3 이 모두 팔로우, 5 는 2 만. 본인(1)과 이미 팔로우한 회원은 빠진다
+        assertEquals(List.of(4L, 5L), memberIds(engine.getSuggestions(1L, 10)));
+        assertEquals(2, engine.getSuggestions(1L, 10).get(0).getSharedCount());
+        assertEquals(List.of(4L), memberIds(engine.getSuggestions(1L, 1)));
+    }
+
+    @Test
+    public void testFollowChangeRefreshesAffectedMembers() {
+        assertEquals(List.of(4L, 5L), memberIds(engine.getSuggestions(1L, 10)));
+        follow(1L, 4L);
+        assertEquals(List.of(5L), memberIds(engine.getSuggestions(1L, 10)));
+        // 1 이 팔로우하는 2 가 새로 팔로우하면 1 의 2단계도 바뀐다
+        follow(2L, 7L);
+        assertEquals(List.of(5L, 7L), memberIds(engine.getSuggestions(1L, 10)));
+    }
+
+    @Test
+    public void testBatchRefreshesActiveMembers() {
+        assertEquals(List.of(6L), memberIds(engine.getSuggestions(2L, 10)));
+        // 추천 캐시를 거치지 않고 그래프만 바꾸면 배치가 다시 계산하기 전까지 이전 결과가 남는다
+        index.onFollowChanged(new FollowChangedEvent(4L, 8L, true, 0));
+        assertEquals(List.of(6L), memberIds(engine.getSuggestions(2L, 10)));
+        engine.refreshAll();
+        assertEquals(List.of(6L, 8L), memberIds(engine.getSuggestions(2L, 10)));
+    }
+
+    private void follow(Long followerId, Long followeeId) {
+        FollowChangedEvent event = new FollowChangedEvent(followerId, followeeId, true, 0);
+        index.onFollowChanged(event);
+        engine.onFollowChanged(event);
+    }
+
+    private static List<Long> memberIds(List<FollowSuggestion> suggestions) {
+        return suggestions.stream().map(FollowSuggestion::getMemberId)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,27 @@
+package com.jygoh.whoever.hashtag;
+
+import com.jygoh.whoever.domain.hashtag.model.Hashtag;
+import com.jygoh.whoever.domain.post.model.Post;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 해시태그 테스트가 함께 쓰는 id 가 지정된 엔티티
+final class HashtagFixtures {
+
+    private HashtagFixtures() {
+    }
+
+    static Hashtag hashtag(Long id, String name) {
+        Hashtag hashtag = Hashtag.builder().name(name).build();
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+
+    static Post post(Long postId, Long... hashtagIds) {
+        Post post = Post.builder().title("title").content("content").authorId(1L)
+            .hashtagIds(new ArrayList<>(List.of(hashtagIds))).build();
+        ReflectionTestUtils.setField(post, "id", postId);
+        return post;
+    }
+}
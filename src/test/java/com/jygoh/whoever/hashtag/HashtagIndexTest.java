@@ -0,0 +1,102 @@
+package com.jygoh.whoever.hashtag;
+
+import static com.jygoh.whoever.hashtag.HashtagFixtures.hashtag;
+import static com.jygoh.whoever.hashtag.HashtagFixtures.post;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jygoh.whoever.domain.hashtag.event.HashtagIndexRebuiltEvent;
+import com.jygoh.whoever.domain.hashtag.index.HashtagIndex;
+import com.jygoh.whoever.domain.hashtag.model.Hashtag;
+import com.jygoh.whoever.domain.hashtag.repository.HashtagRepository;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent.Type;
+import com.jygoh.whoever.domain.post.model.Post;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class HashtagIndexTest {
+
+    private static final Map<Long, String> NAMES = Map.of(1L, "spring", 2L, "redis", 3L,
+        "kotlin");
+
+    private HashtagIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        HashtagRepository hashtagRepository = mock(HashtagRepository.class);
+        when(hashtagRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Hashtag> hashtags = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                hashtags.add(hashtag(id, NAMES.get(id)));
+            }
+            return hashtags;
+        });
+        index = new HashtagIndex(mock(JdbcTemplate.class), hashtagRepository,
+            mock(ApplicationEventPublisher.class));
+        create(1L, 1L, 2L);     // spring redis
+        create(2L, 1L, 2L, 3L); // spring redis kotlin
+        create(3L, 1L);         // spring
+        create(4L, 3L);         // kotlin
+        create(5L, 1L, 2L);     // spring redis
+    }
+
+    @Test
+    public void testBooleanQueriesAreNewestFirst() {
+        assertEquals(List.of(5L, 1L), index.findPostIds("spring AND redis NOT kotlin", null, 10));
+        assertEquals(List.of(5L, 2L, 1L), index.findPostIds("spring redis", null, 10));
+        assertEquals(List.of(5L, 4L, 2L, 1L), index.findPostIds("redis OR kotlin", null, 10));
+        assertEquals(List.of(4L, 3L, 2L), index.findPostIds("#kotlin OR NOT redis", null, 10));
+        assertEquals(List.of(3L), index.findPostIds("spring NOT (redis OR kotlin)", null, 10));
+        assertEquals(List.of(), index.findPostIds("unknown", null, 10));
+        // 태그 이름은 저장할 때처럼 정규화해서 찾는다
+        assertEquals(List.of(5L, 2L, 1L), index.findPostIds("#Spring AND ＲＥＤＩＳ", null, 10));
+    }
+
+    @Test
+    public void testCursorPaging() {
+        assertEquals(List.of(5L, 3L), index.findPostIds("spring", null, 2));
+        assertEquals(List.of(2L, 1L), index.findPostIds("spring", 3L, 2));
+        assertEquals(List.of(), index.findPostIds("spring", 1L, 2));
+    }
+
+    @Test
+    public void testUpdateAndDeleteMoveBits() {
+        Post post = post(5L, 3L);
+        index.onPostChanged(new PostChangedEvent(Type.UPDATED, post, List.of(1L, 2L)));
+        assertEquals(List.of(1L), index.findPostIds("spring AND redis NOT kotlin", null, 10));
+        assertEquals(3, index.postCount(3L));
+
+        index.onPostChanged(new PostChangedEvent(Type.DELETED, post(1L, 1L, 2L)));
+        assertEquals(List.of(), index.findPostIds("spring AND redis NOT kotlin", null, 10));
+        assertEquals(List.of(5L, 4L, 3L), index.findPostIds("NOT redis", null, 10));
+    }
+
+    @Test
+    public void testInvalidQueryIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> index.findPostIds("spring AND (redis", null, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.findPostIds("OR", null, 10));
+    }
+
+    @Test
+    public void testRebuildPublishesEvent() {
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        new HashtagIndex(mock(JdbcTemplate.class), mock(HashtagRepository.class), eventPublisher)
+            .rebuild();
+        verify(eventPublisher).publishEvent(any(HashtagIndexRebuiltEvent.class));
+    }
+
+    private void create(Long postId, Long... hashtagIds) {
+        index.onPostChanged(new PostChangedEvent(Type.CREATED, post(postId, hashtagIds)));
+    }
+}
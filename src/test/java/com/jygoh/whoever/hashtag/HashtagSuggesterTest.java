@@ -0,0 +1,111 @@
+package com.jygoh.whoever.hashtag;
+
+import static com.jygoh.whoever.hashtag.HashtagFixtures.hashtag;
+import static com.jygoh.whoever.hashtag.HashtagFixtures.post;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jygoh.whoever.domain.hashtag.dto.HashtagSuggestionDto;
+import com.jygoh.whoever.domain.hashtag.index.HashtagIndex;
+import com.jygoh.whoever.domain.hashtag.index.HashtagSuggester;
+import com.jygoh.whoever.domain.hashtag.model.Hashtag;
+import com.jygoh.whoever.domain.hashtag.repository.HashtagRepository;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class HashtagSuggesterTest {
+
+    private HashtagSuggester suggester;
+
+    @BeforeEach
+    public void setUp() {
+        HashtagRepository hashtagRepository = mock(HashtagRepository.class);
+        when(hashtagRepository.findAll()).thenReturn(
+            List.of(hashtag(1L, "spring"), hashtag(2L, "springboot"), hashtag(3L, "sql"),
+                hashtag(4L, "redis")));
+        HashtagIndex index = new HashtagIndex(mock(JdbcTemplate.class), hashtagRepository,
+            mock(ApplicationEventPublisher.class));
+        // springboot 3개, spring 1개 글
+        index.onPostChanged(new PostChangedEvent(Type.CREATED, post(1L, 1L, 2L)));
+        index.onPostChanged(new PostChangedEvent(Type.CREATED, post(2L, 2L)));
+        index.onPostChanged(new PostChangedEvent(Type.CREATED, post(3L, 2L, 3L)));
+        suggester = new HashtagSuggester(hashtagRepository, index);
+        suggester.reload();
+    }
+
+    @Test
+    public void testRankedByPostCount() {
+        assertEquals(List.of("springboot", "spring"), names(suggester.suggest("spr", 10)));
+        assertEquals(List.of("springboot", "spring", "sql"), names(suggester.suggest("s", 10)));
+        assertEquals(List.of("springboot"), names(suggester.suggest("#S", 1)));
+        assertEquals(List.of(), names(suggester.suggest("java", 10)));
+    }
+
+    @Test
+    public void testAddedHashtagIsSuggestedImmediately() {
+        suggester.add("spring-data", 5L);
+        assertEquals(List.of("springboot", "spring", "spring-data"),
+            names(suggester.suggest("spring", 10)));
+    }
+
+    @Test
+    public void testPopularHashtagBeyondAlphabeticalRangeIsSuggested() {
+        // 사전순으로 앞서는 글 없는 태그가 많아도 글이 많은 태그가 짧은 접두어에서 먼저 나온다
+        List<Hashtag> hashtags = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            hashtags.add(hashtag(id, String.format("s%04d", id)));
+        }
+        hashtags.add(hashtag(3001L, "szzz"));
+        HashtagRepository hashtagRepository = mock(HashtagRepository.class);
+        when(hashtagRepository.findAll()).thenReturn(hashtags);
+        HashtagIndex index = new HashtagIndex(mock(JdbcTemplate.class), hashtagRepository,
+            mock(ApplicationEventPublisher.class));
+        index.onPostChanged(new PostChangedEvent(Type.CREATED, post(1L, 3001L)));
+        HashtagSuggester manyHashtags = new HashtagSuggester(hashtagRepository, index);
+        manyHashtags.reload();
+
+        assertEquals(List.of("szzz"), names(manyHashtags.suggest("s", 1)));
+        assertEquals(List.of("szzz"), names(manyHashtags.suggest("sz", 1)));
+        assertEquals(HashtagSuggester.TOP_K, manyHashtags.suggest("s", 100).size());
+
+        // 순위는 주기적으로 다시 매긴다
+        index.onPostChanged(new PostChangedEvent(Type.CREATED, post(2L, 2999L)));
+        index.onPostChanged(new PostChangedEvent(Type.CREATED, post(3L, 2999L)));
+        manyHashtags.rankShortPrefixes();
+        assertEquals(List.of("s2999", "szzz"), names(manyHashtags.suggest("s", 2)));
+    }
+
+    @Test
+    public void testShortPrefixesAreRankedWhenIndexIsRebuilt() {
+        // 시작 시 색인보다 먼저 적재되면 글 수가 모두 0 이라 사전순 상위 K 개만 골라진다
+        List<Hashtag> hashtags = new ArrayList<>();
+        for (long id = 1; id <= HashtagSuggester.TOP_K; id++) {
+            hashtags.add(hashtag(id, String.format("s%04d", id)));
+        }
+        hashtags.add(hashtag(100L, "szzz"));
+        HashtagRepository hashtagRepository = mock(HashtagRepository.class);
+        when(hashtagRepository.findAll()).thenReturn(hashtags);
+        HashtagIndex index = new HashtagIndex(mock(JdbcTemplate.class), hashtagRepository,
+            mock(ApplicationEventPublisher.class));
+        HashtagSuggester earlySuggester = new HashtagSuggester(hashtagRepository, index);
+        earlySuggester.reload();
+        index.onPostChanged(new PostChangedEvent(Type.CREATED, post(1L, 100L)));
+        assertEquals(List.of("s0001"), names(earlySuggester.suggest("s", 1)));
+
+        earlySuggester.onIndexRebuilt();
+        assertEquals(List.of("szzz"), names(earlySuggester.suggest("s", 1)));
+    }
+
+    private static List<String> names(List<HashtagSuggestionDto> suggestions) {
+        return suggestions.stream().map(HashtagSuggestionDto::getName)
+            .collect(Collectors.toList());
+    }
+}
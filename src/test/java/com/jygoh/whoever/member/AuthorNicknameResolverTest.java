@@ -0,0 +1,76 @@
+package com.jygoh.whoever.member;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jygoh.whoever.domain.member.entity.Member;
+import com.jygoh.whoever.domain.member.entity.Provider;
+import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.member.service.AuthorNicknameResolver;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(AuthorNicknameResolver.class)
+public class AuthorNicknameResolverTest {
+
+    @Autowired
+    private AuthorNicknameResolver authorNicknameResolver;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    public void testPageOfAuthorsCostsOneStatement() {
+        List<Long> smallPage = saveMembers(10);
+        List<Long> largePage = saveMembers(50);
+        assertEquals(1, statementsFor(smallPage));
+        assertEquals(1, statementsFor(largePage));
+    }
+
+    @Test
+    public void testUnknownAuthorFallsBack() {
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(List.of(-1L));
+        assertEquals(AuthorNicknameResolver.UNKNOWN, nicknames.get(-1L));
+    }
+
+    private long statementsFor(List<Long> memberIds) {
+        entityManager.clear();
+        statistics.clear();
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(memberIds);
+        assertEquals(memberIds.size(), nicknames.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> saveMembers(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Member member = memberRepository.save(
+                Member.builder().email("member" + i + "-" + count + "@example.com")
+                    .nickname("nickname" + i + "-" + count).providers(List.of(Provider.GOOGLE))
+                    .build());
+            ids.add(member.getId());
+        }
+        entityManager.flush();
+        return ids;
+    }
+}
@@ -0,0 +1,82 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jygoh.whoever.domain.member.entity.Member;
+import com.jygoh.whoever.domain.member.repository.MemberRepository;
+import com.jygoh.whoever.domain.post.model.Post;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 각 스레드가 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션을 쓰지 않는다
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CounterRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int INCREMENTS_PER_THREAD = 50;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    public void testConcurrentCommentCountIncrementsAreNotLost() throws Exception {
+        Post post = postRepository.save(
+            Post.builder().title("title").content("content").authorId(1L).build());
+        runConcurrently(() -> postRepository.addCommentCount(post.getId(), 1));
+        assertEquals(THREADS * INCREMENTS_PER_THREAD,
+            postRepository.findById(post.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    public void testConcurrentFollowerCountNeverGoesNegative() throws Exception {
+        Member member = memberRepository.save(
+            Member.builder().email("counter@example.com").nickname("counter").build());
+        runConcurrently(() -> memberRepository.addFollowerCount(member.getId(), 1));
+        assertEquals(THREADS * INCREMENTS_PER_THREAD,
+            memberRepository.findById(member.getId()).orElseThrow().getFollowerCount());
+        // 증가분보다 많이 감소시켜도 0 에서 멈춘다
+        runConcurrently(() -> memberRepository.addFollowerCount(member.getId(), -2));
+        assertEquals(0, memberRepository.findById(member.getId()).orElseThrow().getFollowerCount());
+    }
+
+    private void runConcurrently(Runnable update) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < INCREMENTS_PER_THREAD; n++) {
+                    update.run();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,103 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jygoh.whoever.domain.post.like.PostLikeRepository;
+import com.jygoh.whoever.domain.post.like.service.LikeChange;
+import com.jygoh.whoever.domain.post.like.service.LocalLikeStore;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LikeStoreTest {
+
+    private static final int THREADS = 200;
+    private static final Long POST_ID = 1L;
+
+    private LocalLikeStore likeStore;
+
+    @BeforeEach
+    public void setUp() {
+        PostRepository postRepository = mock(PostRepository.class);
+        PostLikeRepository postLikeRepository = mock(PostLikeRepository.class);
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+        // DB 에 이미 좋아요한 회원 2명
+        when(postLikeRepository.findMemberIdsByPostId(POST_ID)).thenReturn(List.of(-1L, -2L));
+        likeStore = new LocalLikeStore(postRepository, postLikeRepository, 86400);
+    }
+
+    @Test
+    public void testConcurrentLikesAreCountedExactly() throws Exception {
+        hammer(1);
+        assertEquals(THREADS + 2, likeStore.getLikeCount(POST_ID));
+        List<LikeChange> changes = likeStore.drainChanges();
+        assertEquals(THREADS, changes.size());
+        assertTrue(changes.stream().allMatch(LikeChange::isLiked));
+    }
+
+    @Test
+    public void testConcurrentToggleBackAndForth() throws Exception {
+        // 회원마다 짝수 번 토글하면 원래 상태로 돌아온다
+        hammer(10);
+        assertEquals(2, likeStore.getLikeCount(POST_ID));
+        assertTrue(likeStore.drainChanges().stream().noneMatch(LikeChange::isLiked));
+        assertFalse(likeStore.isLiked(POST_ID, 0L));
+        assertTrue(likeStore.isLiked(POST_ID, -1L));
+    }
+
+    @Test
+    public void testRestoreKeepsNewerChange() {
+        likeStore.toggle(POST_ID, 7L);
+        List<LikeChange> drained = likeStore.drainChanges();
+        likeStore.toggle(POST_ID, 7L);
+        likeStore.restoreChanges(drained);
+        List<LikeChange> changes = likeStore.drainChanges();
+        assertEquals(1, changes.size());
+        assertFalse(changes.get(0).isLiked());
+    }
+
+    @Test
+    public void testReloadKeepsUnreconciledChanges() {
+        likeStore.toggle(POST_ID, 7L);
+        likeStore.toggle(POST_ID, -1L);
+        // 만료되어 빠진 글을 다시 적재해도 아직 DB 에 반영되지 않은 변경은 남는다
+        likeStore.evict(POST_ID);
+        assertNull(likeStore.getLikeCount(POST_ID));
+        assertTrue(likeStore.isLiked(POST_ID, 7L));
+        assertFalse(likeStore.isLiked(POST_ID, -1L));
+        assertEquals(2, likeStore.getLikeCount(POST_ID));
+    }
+
+    private void hammer(int togglesPerMember) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            long memberId = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < togglesPerMember; n++) {
+                    likeStore.toggle(POST_ID, memberId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+}
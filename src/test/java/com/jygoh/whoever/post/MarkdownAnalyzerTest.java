@@ -0,0 +1,45 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.jygoh.whoever.domain.post.markdown.MarkdownAnalysis;
+import com.jygoh.whoever.domain.post.markdown.MarkdownAnalyzer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MarkdownAnalyzerTest {
+
+    private final MarkdownAnalyzer analyzer = new MarkdownAnalyzer();
+
+    @Test
+    public void testThumbnailIsFirstImage() {
+        String markdown = "# 제목\n\n본문 ![a](https://img/a.png) 그리고 ![b](https://img/b.png)";
+        assertEquals("https://img/a.png", analyzer.analyze(markdown).getThumbnailUrl());
+    }
+
+    @Test
+    public void testThumbnailFromRawHtmlImage() {
+        String markdown = "텍스트\n\n<img src=\"https://img/raw.png\" width=\"100\">\n\n![b](https://img/b.png)";
+        assertEquals("https://img/raw.png", analyzer.analyze(markdown).getThumbnailUrl());
+    }
+
+    @Test
+    public void testNoImage() {
+        assertNull(analyzer.analyze("이미지 없는 글").getThumbnailUrl());
+    }
+
+    @Test
+    public void testAnalyzeCollectsMetadataInOnePass() {
+        String markdown = "# 첫 `제목`\n\nhello world ![a](https://img/a.png)\n\n## 둘째\n\n- one two\n\n![b](https://img/b.png)";
+        MarkdownAnalysis analysis = analyzer.analyze(markdown);
+        assertEquals("https://img/a.png", analysis.getThumbnailUrl());
+        assertEquals(List.of("https://img/a.png", "https://img/b.png"), analysis.getImageUrls());
+        assertEquals(2, analysis.getHeadings().size());
+        assertEquals(1, analysis.getHeadings().get(0).getLevel());
+        assertEquals("첫 제목", analysis.getHeadings().get(0).getText());
+        assertEquals("둘째", analysis.getHeadings().get(1).getText());
+        // 첫, 제목, 둘째, hello, world, one, two (이미지 대체 텍스트 a, b 포함)
+        assertEquals(9, analysis.getWordCount());
+    }
+}
@@ -0,0 +1,69 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jygoh.whoever.domain.comment.repository.CommentRepository;
+import com.jygoh.whoever.domain.post.cache.PostDetailCache;
+import com.jygoh.whoever.domain.post.dto.PostDetailResponseDto;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent;
+import com.jygoh.whoever.domain.post.event.PostChangedEvent.Type;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class PostDetailCacheTest {
+
+    private static final Long POST_ID = 1L;
+
+    private PostDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        cache = new PostDetailCache(mock(RedisTemplate.class), new ObjectMapper(),
+            mock(PostRepository.class), mock(CommentRepository.class),
+            mock(TransactionTemplate.class), new SimpleMeterRegistry(), 100, 30, false, 600,
+            false, 10);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void testLoadStartedBeforeEvictIsNotCached() {
+        // 조립 도중에 커밋된 변경이 무효화되면 조립 결과는 응답에만 쓰고 캐시에 넣지 않는다
+        cache.get(POST_ID, id -> {
+            loads.incrementAndGet();
+            cache.evict(id);
+            return mock(PostDetailResponseDto.class);
+        });
+        cache.get(POST_ID, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testRemotePostChangeEvictsLocalEntry() {
+        PostDetailResponseDto first = cache.get(POST_ID, this::load);
+        assertSame(first, cache.get(POST_ID, this::load));
+
+        PostChangedEvent event = mock(PostChangedEvent.class);
+        when(event.isRemote()).thenReturn(true);
+        when(event.getType()).thenReturn(Type.UPDATED);
+        when(event.getPostId()).thenReturn(POST_ID);
+        cache.onPostChanged(event);
+        cache.get(POST_ID, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    private PostDetailResponseDto load(Long postId) {
+        loads.incrementAndGet();
+        return mock(PostDetailResponseDto.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jygoh.whoever.domain.post.model.Post;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class PostHashtagUpdateTest {
+
+    private static final int TAGS = 20;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    public void testUnchangedTagsWriteNoCollectionRows() {
+        List<Long> hashtagIds = hashtagIds(0, TAGS);
+        Long postId = savePost(hashtagIds);
+
+        statistics.clear();
+        Post post = postRepository.findById(postId).orElseThrow();
+        post.updatePost("title", "edited", null, hashtagIds, null);
+        entityManager.flush();
+
+        assertEquals(0, statistics.getCollectionUpdateCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(0, statistics.getCollectionRemoveCount());
+    }
+
+    @Test
+    public void testChangedTagsKeepCollection() {
+        Long postId = savePost(hashtagIds(0, TAGS));
+
+        statistics.clear();
+        Post post = postRepository.findById(postId).orElseThrow();
+        // 하나만 바꿔도 컬렉션을 지우고 다시 만들지 않는다
+        post.updatePost("title", "edited", null, hashtagIds(1, TAGS + 1), null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, statistics.getCollectionUpdateCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(hashtagIds(1, TAGS + 1),
+            new ArrayList<>(postRepository.findById(postId).orElseThrow().getHashtagIds()));
+    }
+
+    private Long savePost(List<Long> hashtagIds) {
+        Post post = postRepository.save(
+            Post.builder().title("title").content("content").authorId(1L).hashtagIds(hashtagIds)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        return post.getId();
+    }
+
+    private List<Long> hashtagIds(int from, int to) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = from + 1; id <= to; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jygoh.whoever.domain.post.search.PostSearchIndex;
+import com.jygoh.whoever.domain.post.search.SearchHit;
+import com.jygoh.whoever.domain.post.search.SnippetHighlighter;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new PostSearchIndex(10000);
+        index.index(1L, "스프링 부트 시작하기", "스프링 부트로 웹 애플리케이션을 만들어 봅니다.");
+        index.index(2L, "자바 동시성", "스프링 없이 자바 스레드와 잠금을 다룹니다.");
+        index.index(3L, "여행 기록", "제주도 여행에서 먹은 음식들");
+    }
+
+    @Test
+    public void testKoreanSubstringMatchesWithoutMorphology() {
+        // "애플리케이션을" 안의 "애플리케이션" 도 찾는다
+        assertEquals(List.of(1L), postIds(index.search("애플리케이션", 10)));
+    }
+
+    @Test
+    public void testTitleMatchRanksFirst() {
+        List<Long> ids = postIds(index.search("스프링", 10));
+        assertEquals(List.of(1L, 2L), ids);
+    }
+
+    @Test
+    public void testUpdateAndRemove() {
+        index.index(3L, "스프링 여행", "스프링 컨퍼런스 참석기");
+        assertTrue(postIds(index.search("스프링", 10)).contains(3L));
+        assertTrue(postIds(index.search("제주도", 10)).isEmpty());
+
+        index.remove(1L);
+        index.compact();
+        assertEquals(2, index.size());
+        assertTrue(!postIds(index.search("스프링", 10)).contains(1L));
+    }
+
+    @Test
+    public void testSnippetHighlightsAndEscapes() {
+        String snippet = SnippetHighlighter.highlight("<b>스프링</b> 부트", "스프링");
+        assertEquals("&lt;b&gt;<em>스프링</em>&lt;/b&gt; 부트", snippet);
+    }
+
+    private List<Long> postIds(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getPostId).collect(Collectors.toList());
+    }
+}
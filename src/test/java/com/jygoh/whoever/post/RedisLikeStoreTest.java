@@ -0,0 +1,112 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jygoh.whoever.domain.post.like.PostLikeRepository;
+import com.jygoh.whoever.domain.post.like.service.LikeChange;
+import com.jygoh.whoever.domain.post.like.service.RedisLikeStore;
+import com.jygoh.whoever.domain.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RedisLikeStoreTest extends RedisContainerTest {
+
+    private static final int THREADS = 200;
+    private static final Long POST_ID = 1L;
+    private static final Long EMPTY_POST_ID = 2L;
+
+    private PostLikeRepository postLikeRepository;
+    private RedisLikeStore likeStore;
+
+    @BeforeEach
+    public void setUp() {
+        PostRepository postRepository = mock(PostRepository.class);
+        postLikeRepository = mock(PostLikeRepository.class);
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+        // DB 에 이미 좋아요한 회원 2명
+        when(postLikeRepository.findMemberIdsByPostId(POST_ID)).thenReturn(List.of(-1L, -2L));
+        likeStore = new RedisLikeStore(redisTemplate, postRepository, postLikeRepository, 86400);
+    }
+
+    @Test
+    public void testConcurrentLikesAreCountedExactly() throws Exception {
+        hammer(1);
+        assertEquals(THREADS + 2, likeStore.getLikeCount(POST_ID));
+        List<LikeChange> changes = likeStore.drainChanges();
+        assertEquals(THREADS, changes.size());
+        assertTrue(changes.stream().allMatch(LikeChange::isLiked));
+        assertTrue(likeStore.drainChanges().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentToggleBackAndForth() throws Exception {
+        // 회원마다 짝수 번 토글하면 원래 상태로 돌아온다
+        hammer(10);
+        assertEquals(2, likeStore.getLikeCount(POST_ID));
+        assertTrue(likeStore.drainChanges().stream().noneMatch(LikeChange::isLiked));
+        assertFalse(likeStore.isLiked(POST_ID, 0L));
+        assertTrue(likeStore.isLiked(POST_ID, -1L));
+    }
+
+    @Test
+    public void testCountExcludesLoadedField() {
+        assertNull(likeStore.getLikeCount(EMPTY_POST_ID));
+        assertFalse(likeStore.isLiked(EMPTY_POST_ID, 7L));
+        // 좋아요가 없는 글도 적재되면 0 이다 (적재 표시 필드는 세지 않는다)
+        assertEquals(0, likeStore.getLikeCount(EMPTY_POST_ID));
+        assertTrue(likeStore.toggle(EMPTY_POST_ID, 7L).isLiked());
+        assertEquals(1, likeStore.getLikeCount(EMPTY_POST_ID));
+        assertEquals(0, likeStore.toggle(EMPTY_POST_ID, 7L).getLikeCount());
+    }
+
+    @Test
+    public void testReloadAfterEvictKeepsUnreconciledChanges() {
+        likeStore.toggle(POST_ID, 7L);
+        likeStore.toggle(POST_ID, -1L);
+        likeStore.evict(POST_ID);
+        assertNull(likeStore.getLikeCount(POST_ID));
+        // 적재되지 않은 글은 DB 값 위에 아직 반영되지 않은 변경을 덮어 답한다
+        when(postLikeRepository.findLikedPostIds(-1L, List.of(POST_ID)))
+            .thenReturn(List.of(POST_ID));
+        assertEquals(Map.of(POST_ID, false), likeStore.areLiked(List.of(POST_ID), -1L));
+        // 다시 적재해도 변경은 남는다
+        assertTrue(likeStore.isLiked(POST_ID, 7L));
+        assertFalse(likeStore.isLiked(POST_ID, -1L));
+        assertEquals(2, likeStore.getLikeCount(POST_ID));
+        assertTrue(redisTemplate.getExpire("postLike:" + POST_ID) > 0);
+    }
+
+    private void hammer(int togglesPerMember) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            long memberId = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < togglesPerMember; n++) {
+                    likeStore.toggle(POST_ID, memberId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+}
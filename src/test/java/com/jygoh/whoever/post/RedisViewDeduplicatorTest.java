@@ -0,0 +1,118 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jygoh.whoever.domain.post.view.service.RedisViewCountBuffer;
+import com.jygoh.whoever.domain.post.view.service.RedisViewDeduplicator;
+import com.jygoh.whoever.domain.post.view.service.ViewDeduplicator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RedisViewDeduplicatorTest extends RedisContainerTest {
+
+    private static final int THREADS = 100;
+    private static final Long POST_ID = 1L;
+
+    private RedisViewCountBuffer viewCountBuffer;
+    private RedisViewDeduplicator deduplicator;
+
+    @BeforeEach
+    public void setUp() {
+        viewCountBuffer = new RedisViewCountBuffer(redisTemplate, 600);
+        deduplicator = new RedisViewDeduplicator(redisTemplate, 300);
+    }
+
+    @Test
+    public void testSameMemberIsRecordedOnceUnderConcurrency() throws Exception {
+        assertEquals(1, hammer(i -> 7L));
+        assertEquals(1, viewCountBuffer.getPending(POST_ID));
+        assertTrue(redisTemplate.getExpire(ViewDeduplicator.viewKey(POST_ID, 7L)) > 0);
+        assertFalse(deduplicator.recordView(POST_ID, 7L));
+    }
+
+    @Test
+    public void testDistinctMembersAreAllRecorded() throws Exception {
+        assertEquals(THREADS, hammer(i -> (long) i));
+        assertEquals(THREADS, viewCountBuffer.getPending(POST_ID));
+    }
+
+    @Test
+    public void testTotalIsIncrementedOnlyOnceSeeded() {
+        // 적재되지 않은 글은 미반영분만 늘리고 전체 조회수 키를 만들지 않는다
+        assertTrue(deduplicator.recordView(POST_ID, 7L));
+        assertNull(redisTemplate.opsForValue().get(RedisViewCountBuffer.totalKey(POST_ID)));
+
+        // DB 10 + 미반영 1 로 적재된 뒤에는 두 키가 함께 오른다
+        assertEquals(11, viewCountBuffer.getViewCount(POST_ID, () -> 10));
+        assertTrue(deduplicator.recordView(POST_ID, 8L));
+        assertEquals(12, viewCountBuffer.getViewCount(POST_ID, () -> 10));
+        assertEquals(2, viewCountBuffer.getPending(POST_ID));
+    }
+
+    @Test
+    public void testIncrementUpdatesPendingAndTotal() {
+        viewCountBuffer.increment(POST_ID);
+        assertNull(redisTemplate.opsForValue().get(RedisViewCountBuffer.totalKey(POST_ID)));
+        assertEquals(1, viewCountBuffer.getViewCount(POST_ID, () -> 0));
+
+        viewCountBuffer.increment(POST_ID);
+        assertEquals(2, viewCountBuffer.getPending(POST_ID));
+        assertEquals(2, viewCountBuffer.getViewCount(POST_ID, () -> 0));
+
+        // 반영으로 미반영분이 비워져도 전체 조회수는 뒤로 가지 않는다
+        assertEquals(Map.of(POST_ID, 2L), viewCountBuffer.drain());
+        assertEquals(2, viewCountBuffer.getViewCount(POST_ID, () -> 2));
+    }
+
+    @Test
+    public void testReadsDoNotExtendTotalMaxAge() {
+        String key = RedisViewCountBuffer.totalKey(POST_ID);
+        assertEquals(10, viewCountBuffer.getViewCount(POST_ID, () -> 10));
+        assertTrue(redisTemplate.getExpire(key) <= 600);
+
+        redisTemplate.expire(key, Duration.ofSeconds(100));
+        viewCountBuffer.getViewCount(POST_ID, () -> 10);
+        viewCountBuffer.increment(POST_ID);
+        assertTrue(redisTemplate.getExpire(key) <= 100);
+
+        // 만료되면 DB 값과 미반영분으로 다시 적재한다
+        redisTemplate.delete(key);
+        assertEquals(16, viewCountBuffer.getViewCount(POST_ID, () -> 15));
+    }
+
+    private int hammer(IntToLongFunction memberIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger recorded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            long memberId = memberIds.applyAsLong(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (deduplicator.recordView(POST_ID, memberId)) {
+                    recorded.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return recorded.get();
+    }
+}
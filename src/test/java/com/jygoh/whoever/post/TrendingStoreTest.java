@@ -0,0 +1,44 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jygoh.whoever.domain.post.trending.LocalTrendingStore;
+import com.jygoh.whoever.domain.post.trending.TrendingStore;
+import com.jygoh.whoever.domain.post.trending.TrendingWindow;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TrendingStoreTest {
+
+    @Test
+    public void testRankedByWeightedEvents() {
+        TrendingStore store = new LocalTrendingStore(0.05, 10000);
+        store.record(1L, TrendingStore.VIEW_WEIGHT);
+        store.record(2L, TrendingStore.COMMENT_WEIGHT);
+        store.record(3L, TrendingStore.LIKE_WEIGHT);
+        store.record(3L, TrendingStore.VIEW_WEIGHT);
+        assertEquals(List.of(2L, 3L, 1L), store.top(TrendingWindow.DAY, 10));
+        assertEquals(List.of(2L), store.top(TrendingWindow.WEEK, 1));
+    }
+
+    @Test
+    public void testRescaleKeepsOrderAndDropsLowScores() {
+        TrendingStore store = new LocalTrendingStore(2, 2);
+        // 최소 점수(2)보다 낮은 글은 정리된다
+        store.record(1L, TrendingStore.VIEW_WEIGHT);
+        store.record(2L, TrendingStore.COMMENT_WEIGHT);
+        store.record(3L, TrendingStore.LIKE_WEIGHT);
+        store.record(3L, TrendingStore.VIEW_WEIGHT);
+        store.record(4L, TrendingStore.LIKE_WEIGHT);
+        store.rescale();
+        // 상한(2)을 넘는 하위 글도 정리된다
+        assertEquals(List.of(2L, 3L), store.top(TrendingWindow.DAY, 10));
+    }
+
+    @Test
+    public void testUnknownWindowIsRejected() {
+        assertEquals(TrendingWindow.WEEK, TrendingWindow.from("7d"));
+        assertThrows(IllegalArgumentException.class, () -> TrendingWindow.from("1y"));
+    }
+}
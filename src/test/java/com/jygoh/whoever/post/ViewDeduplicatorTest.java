@@ -0,0 +1,89 @@
+package com.jygoh.whoever.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jygoh.whoever.domain.post.view.service.LocalViewCountBuffer;
+import com.jygoh.whoever.domain.post.view.service.LocalViewDeduplicator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class ViewDeduplicatorTest {
+
+    private static final int THREADS = 64;
+
+    @Test
+    public void testSameMemberCountedOnceUnderConcurrency() throws Exception {
+        LocalViewCountBuffer buffer = new LocalViewCountBuffer(600);
+        LocalViewDeduplicator deduplicator = new LocalViewDeduplicator(buffer, 300);
+        int recorded = runConcurrently(i -> deduplicator.recordView(1L, 7L));
+        assertEquals(1, recorded);
+        assertEquals(1, buffer.getPending(1L));
+    }
+
+    @Test
+    public void testDistinctMembersCountedExactly() throws Exception {
+        LocalViewCountBuffer buffer = new LocalViewCountBuffer(600);
+        LocalViewDeduplicator deduplicator = new LocalViewDeduplicator(buffer, 300);
+        int recorded = runConcurrently(i -> deduplicator.recordView(1L, (long) i));
+        assertEquals(THREADS, recorded);
+        assertEquals(THREADS, buffer.getPending(1L));
+    }
+
+    @Test
+    public void testViewCountDoesNotGoBackwardsAfterDrain() throws Exception {
+        LocalViewCountBuffer buffer = new LocalViewCountBuffer(600);
+        LocalViewDeduplicator deduplicator = new LocalViewDeduplicator(buffer, 300);
+        deduplicator.recordView(1L, 1L);
+        assertEquals(11, buffer.getViewCount(1L, () -> 10));
+        runConcurrently(i -> deduplicator.recordView(1L, (long) i + 100));
+        assertEquals(11 + THREADS, buffer.getViewCount(1L, () -> 10));
+
+        // 반영 후에도 DB 를 다시 읽지 않고 같은 값을 돌려준다
+        buffer.drain();
+        assertEquals(0, buffer.getPending(1L));
+        assertEquals(11 + THREADS, buffer.getViewCount(1L, () -> 0));
+    }
+
+    @Test
+    public void testViewCountIsReseededAfterMaxAge() {
+        LocalViewCountBuffer buffer = new LocalViewCountBuffer(0);
+        assertEquals(10, buffer.getViewCount(1L, () -> 10));
+        // 적재할 때 덜 세어진 값은 max-age 가 지나 다시 적재하면 DB 값으로 바로잡힌다
+        assertEquals(15, buffer.getViewCount(1L, () -> 15));
+    }
+
+    private int runConcurrently(ViewCall call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return call.record(index);
+                }));
+            }
+            start.countDown();
+            int recorded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    recorded++;
+                }
+            }
+            return recorded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface ViewCall {
+
+        boolean record(int index);
+    }
+}